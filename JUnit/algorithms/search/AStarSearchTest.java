@@ -0,0 +1,61 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the a* search algorithm.
+ * checks that the paths it returns are valid and as short as the bfs ones.
+ */
+class AStarSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("A Star Search", new AStarSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * a* should return shortest paths on both maze generators
+     */
+    @Test
+    void testFindsShortestPaths() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(), new SimpleMazeGenerator() };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                Maze maze = generator.generate(40, 40);
+                ISearchable searchable = new SearchableMaze(maze);
+                int expected = new FlatBreadthFirstSearch().solve(searchable).getSolutionPath().size();
+
+                List<AState> steps = new AStarSearch().solve(searchable).getSolutionPath();
+                assertEquals(expected, steps.size(), "a* path should be a shortest path");
+                for (int j = 1; j < steps.size(); j++) {
+                    assertTrue(searchable.getAllPossibleStates(steps.get(j - 1)).contains(steps.get(j)), "steps should be neighbors");
+                }
+            }
+        }
+    }
+
+    /**
+     * on an empty maze a* should go straight along the diagonal
+     */
+    @Test
+    void testEmptyMazeExpandsOnlyThePath() {
+        Maze maze = new EmptyMazeGenerator().generate(50, 50);
+        AStarSearch searcher = new AStarSearch();
+        Solution solution = searcher.solve(new SearchableMaze(maze));
+
+        assertEquals(50, solution.getSolutionPath().size(), "diagonal path should have one step per row");
+        assertEquals(50, searcher.getNumberOfNodesEvaluated(), "only the path cells should be expanded");
+    }
+}
@@ -0,0 +1,76 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for solving many mazes at once.
+ */
+class BatchSolverTest {
+
+    /**
+     * every solution should be the one a single solve gives for the maze at the same position
+     */
+    @Test
+    void testSolutionsInInputOrder() {
+        IMazeGenerator generator = new SimpleMazeGenerator(11);
+        List<SearchableMaze> mazes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            mazes.add(new SearchableMaze(generator.generate(5 + i % 40, 5 + i % 25)));
+        }
+
+        BatchResult result = new BatchSolver().solveAll(mazes);
+        assertEquals(mazes.size(), result.getSolutions().size(), "one solution per maze");
+        int solved = 0;
+        long expanded = 0;
+        for (int i = 0; i < mazes.size(); i++) {
+            Solution expected = new FlatBreadthFirstSearch().solve(mazes.get(i));
+            Solution actual = result.getSolutions().get(i);
+            assertEquals(expected.getSolutionPath(), actual.getSolutionPath(), "solution " + i + " should match its maze");
+            if (!actual.getSolutionPath().isEmpty()) solved++;
+            expanded += actual.getStats().getNodesExpanded();
+        }
+        assertEquals(solved, result.getSolved(), "solved count should add up");
+        assertEquals(expanded, result.getNodesExpanded(), "expanded nodes should add up");
+        assertTrue(result.getWorkers() >= 1, "at least one worker should have solved mazes");
+    }
+
+    /**
+     * an empty batch and null problems should not break the batch
+     */
+    @Test
+    void testEmptyBatchAndNullProblems() {
+        assertTrue(new BatchSolver().solveAll(Collections.emptyList()).getSolutions().isEmpty(), "nothing to solve");
+        List<ISearchable> problems = new ArrayList<>();
+        problems.add(null);
+        problems.add(new SearchableMaze(new SimpleMazeGenerator(2).generate(10, 10)));
+        BatchResult result = new BatchSolver(AStarSearch::new).solveAll(problems);
+        assertNull(result.getSolutions().get(0), "a null problem gets a null solution");
+        assertNotNull(result.getSolutions().get(1), "the maze should be solved");
+    }
+
+    /**
+     * a cancelled token should stop every solve of the batch
+     */
+    @Test
+    void testCancelledBatchTimesOut() {
+        IMazeGenerator generator = new SimpleMazeGenerator(5);
+        List<SearchableMaze> mazes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            mazes.add(new SearchableMaze(generator.generate(50, 50)));
+        }
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        BatchResult result = new BatchSolver().solveAll(mazes, token);
+        assertEquals(0, result.getSolved(), "no maze should be solved");
+        assertEquals(mazes.size(), result.getTimedOut(), "every solve should be stopped");
+    }
+}
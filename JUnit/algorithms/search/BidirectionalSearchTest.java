@@ -0,0 +1,74 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static algorithms.search.MazeSolverAssertions.assertShortestPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the bidirectional breadth first search.
+ * checks the two frontiers meet on a shortest path.
+ */
+class BidirectionalSearchTest {
+
+    /**
+     * check the algorithm returns the correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Bidirectional Search", new BidirectionalSearch().getName(), "should return correct name");
+    }
+
+    /**
+     * the path should be as short as the flat bfs path on seeded mazes of both generators
+     */
+    @Test
+    void testSameLengthAsBreadthFirstSearch() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(3), new SimpleMazeGenerator(3) };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                assertShortestPath(new BidirectionalSearch(), new SearchableMaze(generator.generate(25, 35)));
+            }
+        }
+    }
+
+    /**
+     * when the start is the goal the path is that single cell
+     */
+    @Test
+    void testStartIsGoal() {
+        Maze maze = new Maze();
+        maze.setDimensions(5, 5);
+        maze.setStartPosition(new Position(2, 2));
+        maze.setGoalPosition(new Position(2, 2));
+        ISearchable searchable = new SearchableMaze(maze);
+
+        List<AState> steps = new BidirectionalSearch().solve(searchable).getSolutionPath();
+        assertEquals(1, steps.size(), "the path should only hold the start");
+        assertEquals(searchable.getStartState(), steps.get(0), "the only step should be the start");
+    }
+
+    /**
+     * test a maze where the goal is walled off
+     */
+    @Test
+    void testUnsolvableMazeReturnsEmptyPath() {
+        Maze maze = new Maze();
+        maze.setDimensions(3, 3);
+        maze.setCell(new Position(1, 1), 1);
+        maze.setCell(new Position(1, 2), 1);
+        maze.setCell(new Position(2, 1), 1);
+
+        BidirectionalSearch searcher = new BidirectionalSearch();
+        Solution result = searcher.solve(new SearchableMaze(maze));
+        assertTrue(result.getSolutionPath().isEmpty(), "path should be empty when no path exists");
+        assertTrue(searcher.getNumberOfNodesEvaluated() > 0, "the goal side should have been searched");
+    }
+}
@@ -0,0 +1,71 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import static algorithms.search.MazeSolverAssertions.assertShortestPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the bitboard breadth first search.
+ * checks it finds paths as short as the flat bfs, also on widths around the 64 cells of a word.
+ */
+class BitboardBreadthFirstSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Bitboard Breadth First Search", new BitboardBreadthFirstSearch().getName(),
+                "name should match expected string");
+    }
+
+    /**
+     * the bitboard bfs should find paths as short as the flat bfs on seeded mazes of both generators
+     */
+    @Test
+    void testSameLengthAsFlatBfs() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(59), new SimpleMazeGenerator(59) };
+        BitboardBreadthFirstSearch searcher = new BitboardBreadthFirstSearch();
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                assertShortestPath(searcher, new SearchableMaze(generator.generate(30 + 7 * i, 50 - 2 * i)));
+            }
+        }
+    }
+
+    /**
+     * moves across the border of two words should be found for widths just below, at and above a word
+     */
+    @Test
+    void testWidthsAroundAWord() {
+        int[] widths = { 63, 64, 65, 127, 128, 129 };
+        IMazeGenerator generator = new SimpleMazeGenerator(61);
+        BitboardBreadthFirstSearch searcher = new BitboardBreadthFirstSearch();
+        for (int width : widths) {
+            assertShortestPath(searcher, new SearchableMaze(generator.generate(40, width)));
+            assertShortestPath(searcher, new SearchableMaze(new MyMazeGenerator(width).generate(40, width)));
+        }
+    }
+
+    /**
+     * a single row longer than two words should be walked cell by cell, and a wall in it should cut the path
+     */
+    @Test
+    void testSingleRowAcrossWords() {
+        Maze maze = new EmptyMazeGenerator().generate(1, 150);
+        assertShortestPath(new BitboardBreadthFirstSearch(), new SearchableMaze(maze));
+        assertEquals(150, new BitboardBreadthFirstSearch().solve(new SearchableMaze(maze)).getSolutionPath().size(),
+                "every cell of the row should be on the path");
+
+        maze.setCell(new Position(0, 64), 1);
+        assertTrue(new BitboardBreadthFirstSearch().solve(new SearchableMaze(maze)).getSolutionPath().isEmpty(),
+                "a wall across the row should cut the path");
+    }
+}
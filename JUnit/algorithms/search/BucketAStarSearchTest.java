@@ -0,0 +1,59 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the bucket queue a* search on mazes with weighted moves.
+ */
+class BucketAStarSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Bucket A Star Search", new BucketAStarSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * on an empty maze the cheapest path takes as many diagonals as it can, unless they cost too much
+     */
+    @Test
+    void testCostOnEmptyMaze() {
+        Maze maze = new EmptyMazeGenerator().generate(5, 7);
+
+        List<AState> path = new BucketAStarSearch().solve(new SearchableMaze(maze, 10, 14)).getSolutionPath();
+        assertEquals(76.0, path.get(path.size() - 1).getCost(), "4 diagonals and 2 straight moves");
+
+        path = new BucketAStarSearch().solve(new SearchableMaze(maze, 10, 25)).getSolutionPath();
+        assertEquals(100.0, path.get(path.size() - 1).getCost(), "10 straight moves are cheaper than any diagonal");
+    }
+
+    /**
+     * the cost of the path should match the heap based a* on random weighted mazes
+     */
+    @Test
+    void testSameCostAsAStarSearch() {
+        IMazeGenerator generator = new SimpleMazeGenerator(42);
+        for (int i = 0; i < 20; i++) {
+            SearchableMaze maze = new SearchableMaze(generator.generate(40, 40), 10, 14);
+            List<AState> expected = new AStarSearch().solve(maze).getSolutionPath();
+            List<AState> actual = new BucketAStarSearch().solve(maze).getSolutionPath();
+
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "both should agree on whether a path exists");
+            if (!actual.isEmpty()) {
+                assertEquals(expected.get(expected.size() - 1).getCost(), actual.get(actual.size() - 1).getCost(),
+                        "bucket a* should find a cheapest path");
+                assertEquals(0.0, actual.get(0).getCost(), "the start costs nothing");
+            }
+        }
+    }
+}
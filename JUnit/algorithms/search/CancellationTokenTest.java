@@ -0,0 +1,61 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.MyMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for stopping searches with deadlines and interrupts.
+ */
+class CancellationTokenTest {
+
+    /**
+     * a token with a deadline should cancel itself once the deadline passes, and not before
+     */
+    @Test
+    void testDeadlineCancelsToken() throws InterruptedException {
+        assertFalse(CancellationToken.withTimeout(1, TimeUnit.HOURS).isCancelled(), "an hour should not pass");
+        CancellationToken token = CancellationToken.withTimeout(5, TimeUnit.MILLISECONDS);
+        Thread.sleep(20);
+        assertTrue(token.isCancelled(), "the deadline has passed");
+        assertThrows(IllegalArgumentException.class, () -> CancellationToken.withTimeout(-1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * a search whose deadline passed should return a timed out solution with its statistics
+     */
+    @Test
+    void testExpiredDeadlineTimesOut() {
+        SearchableMaze maze = new SearchableMaze(new MyMazeGenerator(4).generate(100, 100));
+        CancellationToken token = CancellationToken.withTimeout(0, TimeUnit.MILLISECONDS);
+        for (ASearchingAlgorithm searcher : new ASearchingAlgorithm[]{ new BreadthFirstSearch(),
+                new AStarSearch(), new DeadEndFillingSearch(), new PortfolioSearch() }) {
+            Solution solution = searcher.solve(maze, token);
+            assertTrue(solution.isTimedOut(), searcher.getName() + " should time out");
+            assertTrue(solution.getSolutionPath().isEmpty(), searcher.getName() + " should return no path");
+            assertNotNull(solution.getStats(), searcher.getName() + " should report its statistics");
+        }
+    }
+
+    /**
+     * an interrupted thread should stop the search and keep its interrupt flag
+     */
+    @Test
+    void testInterruptStopsSearch() {
+        SearchableMaze maze = new SearchableMaze(new MyMazeGenerator(6).generate(100, 100));
+        Thread.currentThread().interrupt();
+        try {
+            Solution solution = new FlatBreadthFirstSearch().solve(maze, null);
+            assertTrue(solution.isTimedOut(), "an interrupted search should time out");
+            assertTrue(Thread.currentThread().isInterrupted(), "the interrupt flag should stay set");
+        } finally {
+            Thread.interrupted();
+        }
+        Solution solution = new FlatBreadthFirstSearch().solve(maze, null);
+        assertFalse(solution.isTimedOut(), "a search that ends should not be timed out");
+        assertFalse(solution.getSolutionPath().isEmpty(), "generated mazes are solvable");
+    }
+}
@@ -0,0 +1,71 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the incremental d* lite planner.
+ */
+class DStarLitePlannerTest {
+
+    /**
+     * make sure the planner returns its correct name
+     */
+    @Test
+    void testPlannerName() {
+        assertEquals("D Star Lite", new DStarLitePlanner(new EmptyMazeGenerator().generate(3, 3)).getName());
+    }
+
+    /**
+     * after every wall toggle the repaired path should cost as much as a search from scratch
+     */
+    @Test
+    void testReplanMatchesFreshSearch() {
+        Random random = new Random(5);
+        Maze maze = new SimpleMazeGenerator(5).generate(30, 30);
+        DStarLitePlanner planner = new DStarLitePlanner(maze, 10, 14);
+        planner.plan();
+
+        for (int i = 0; i < 50; i++) {
+            Position cell = new Position(random.nextInt(30), random.nextInt(30));
+            maze.setCell(cell, 1 - maze.getCell(cell));
+            List<AState> actual = planner.replan(Collections.singletonList(cell)).getSolutionPath();
+            List<AState> expected = new AStarSearch().solve(new SearchableMaze(maze, 10, 14)).getSolutionPath();
+
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "both should agree on whether a path exists");
+            if (!actual.isEmpty()) {
+                assertEquals(expected.get(expected.size() - 1).getCost(), actual.get(actual.size() - 1).getCost(),
+                        "the repaired path should be a cheapest one");
+            }
+        }
+    }
+
+    /**
+     * walling off the goal and opening it again should be picked up by plan without listing the cells
+     */
+    @Test
+    void testPlanFindsChangedCells() {
+        Maze maze = new EmptyMazeGenerator().generate(5, 5);
+        DStarLitePlanner planner = new DStarLitePlanner(maze);
+        assertEquals(5, planner.plan().getSolutionPath().size(), "4 diagonal moves on an empty maze");
+
+        maze.setCell(new Position(3, 4), 1);
+        maze.setCell(new Position(4, 3), 1);
+        maze.setCell(new Position(3, 3), 1);
+        assertTrue(planner.plan().getSolutionPath().isEmpty(), "the goal is walled off");
+
+        maze.setCell(new Position(3, 4), 0);
+        maze.setCell(new Position(4, 3), 0);
+        maze.setCell(new Position(3, 3), 0);
+        assertEquals(5, planner.plan().getSolutionPath().size(), "the goal is open again");
+    }
+}
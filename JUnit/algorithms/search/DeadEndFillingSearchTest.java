@@ -0,0 +1,94 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the dead-end filling search.
+ * checks that filling the dead ends keeps the shortest paths of the bfs and the cheapest paths of a*.
+ */
+class DeadEndFillingSearchTest {
+
+    /**
+     * the name should tell which algorithm searches the pruned maze
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Dead End Filling + Flat Breadth First Search", new DeadEndFillingSearch().getName(),
+                "name should match expected string");
+        assertEquals("Dead End Filling + A Star Search", new DeadEndFillingSearch(new AStarSearch()).getName(),
+                "name should include the inner algorithm");
+    }
+
+    /**
+     * the pruned maze should still hold a shortest path, found with fewer evaluated nodes than the plain bfs
+     */
+    @Test
+    void testSameLengthAsBfs() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(47), new SimpleMazeGenerator(47) };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                SearchableMaze maze = new SearchableMaze(generator.generate(30 + 5 * i, 50 - i));
+                FlatBreadthFirstSearch bfs = new FlatBreadthFirstSearch();
+                int expected = bfs.solve(maze).getSolutionPath().size();
+
+                DeadEndFillingSearch searcher = new DeadEndFillingSearch();
+                List<AState> steps = searcher.solve(maze).getSolutionPath();
+                assertEquals(expected, steps.size(), "pruned path should be a shortest path");
+                assertTrue(searcher.getNumberOfNodesEvaluated() <= bfs.getNumberOfNodesEvaluated(),
+                        "the pruned maze shouldn't need more evaluations");
+                if (steps.isEmpty()) continue;
+                assertEquals(maze.getStartState(), steps.get(0), "path should start at the start");
+                assertEquals(maze.getGoalState(), steps.get(steps.size() - 1), "path should end at the goal");
+                for (int j = 1; j < steps.size(); j++) {
+                    assertTrue(maze.getAllPossibleStates(steps.get(j - 1)).contains(steps.get(j)), "steps should be neighbors");
+                }
+            }
+        }
+    }
+
+    /**
+     * with a* inside, the pruned maze should keep the move costs and the cheapest path
+     */
+    @Test
+    void testSameCostAsAStar() {
+        IMazeGenerator generator = new SimpleMazeGenerator(53);
+        for (int i = 0; i < 10; i++) {
+            SearchableMaze maze = new SearchableMaze(generator.generate(40, 40), 10, 14);
+            List<AState> expected = new AStarSearch().solve(maze).getSolutionPath();
+            List<AState> actual = new DeadEndFillingSearch(new AStarSearch()).solve(maze).getSolutionPath();
+
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "a path should be found whenever a* finds one");
+            if (expected.isEmpty()) continue;
+            assertEquals(expected.get(expected.size() - 1).getCost(), actual.get(actual.size() - 1).getCost(),
+                    "pruned path should cost as much as the a* path");
+        }
+    }
+
+    /**
+     * in a single row only the cells past the start and the goal are dead ends, the path between them stays
+     */
+    @Test
+    void testSingleRowFillsBothEnds() {
+        Maze maze = new EmptyMazeGenerator().generate(1, 30);
+        maze.setStartPosition(new Position(0, 5));
+        maze.setGoalPosition(new Position(0, 24));
+        DeadEndFillingSearch searcher = new DeadEndFillingSearch();
+        assertEquals(20, searcher.solve(new SearchableMaze(maze)).getSolutionPath().size(),
+                "the cells between start and goal should be on the path");
+        assertEquals(20, searcher.getNumberOfNodesEvaluated(), "the filled ends of the row shouldn't be searched");
+
+        maze.setCell(new Position(0, 15), 1);
+        assertTrue(new DeadEndFillingSearch().solve(new SearchableMaze(maze)).getSolutionPath().isEmpty(),
+                "a wall across the row should cut the path");
+    }
+}
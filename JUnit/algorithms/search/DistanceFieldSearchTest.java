@@ -0,0 +1,72 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static algorithms.search.MazeSolverAssertions.assertShortestPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the cached distance field search.
+ * checks its paths are as short as the bfs ones, also when the field comes from the cache.
+ */
+class DistanceFieldSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Distance Field Search", new DistanceFieldSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * the walk down the field should be a shortest path on seeded mazes of both generators
+     */
+    @Test
+    void testSameLengthAsBfs() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(17), new SimpleMazeGenerator(17) };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                assertShortestPath(new DistanceFieldSearch(), new SearchableMaze(generator.generate(30 + 5 * i, 45)));
+            }
+        }
+    }
+
+    /**
+     * a second solve of the same walls and goal from another start should only walk its path
+     */
+    @Test
+    void testCachedFieldOnlyWalksThePath() {
+        Maze maze = new MyMazeGenerator(19).generate(61, 59);
+        new DistanceFieldSearch().solve(new SearchableMaze(maze));
+
+        int row = maze.getRows() / 2;
+        int col = 0;
+        while (maze.getCell(new Position(row, col)) != 0) col++;
+        maze.setStartPosition(new Position(row, col));
+        SearchableMaze moved = new SearchableMaze(maze);
+        DistanceFieldSearch searcher = new DistanceFieldSearch();
+        int expected = new FlatBreadthFirstSearch().solve(moved).getSolutionPath().size();
+        List<AState> steps = searcher.solve(moved).getSolutionPath();
+
+        assertEquals(expected, steps.size(), "cached field path should be a shortest path");
+        assertEquals(steps.size(), searcher.getNumberOfNodesEvaluated(), "only the path cells should be evaluated");
+    }
+
+    /**
+     * the cache is limited in bytes, so a field should weigh its 2 bits per cell
+     */
+    @Test
+    void testFieldWeighsTwoBitsPerCell() {
+        SearchableMaze maze = new SearchableMaze(new MyMazeGenerator(89).generate(40, 64));
+        assertEquals(40 * 64 / 4, new DistanceField(maze, maze.getGoalIndex()).memoryBytes(),
+                "2 bits for each of 2560 cells");
+    }
+}
@@ -0,0 +1,117 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static algorithms.search.MazeSolverAssertions.assertShortestPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the external memory breadth first search.
+ * checks it finds paths as short as the flat bfs, from a SearchableMaze and from a maze file.
+ */
+class ExternalMemoryBreadthFirstSearchTest {
+    @TempDir
+    File workDirectory;
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("External Memory Breadth First Search", new ExternalMemoryBreadthFirstSearch().getName(),
+                "name should match expected string");
+    }
+
+    /**
+     * the search should find paths as short as the flat bfs on seeded mazes of both generators
+     */
+    @Test
+    void testSameLengthAsFlatBfs() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(67), new SimpleMazeGenerator(67) };
+        ExternalMemoryBreadthFirstSearch searcher = new ExternalMemoryBreadthFirstSearch(workDirectory);
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 8; i++) {
+                assertShortestPath(searcher, new SearchableMaze(generator.generate(30 + 6 * i, 45 - i)));
+            }
+        }
+    }
+
+    /**
+     * a maze written to a file should be solved like the maze itself
+     */
+    @Test
+    void testSolvesMazeFile() throws IOException {
+        Maze maze = new MyMazeGenerator(71).generate(50, 70);
+        File file = new File(workDirectory, "test.maze");
+        MazeFile.write(maze, file);
+
+        List<AState> steps = new ExternalMemoryBreadthFirstSearch(workDirectory).solveFile(file).getSolutionPath();
+        assertShortestPath(new SearchableMaze(maze), steps, "external memory bfs on a maze file");
+    }
+
+    /**
+     * solving a file should go through solve: the counters start over and the statistics are attached
+     */
+    @Test
+    void testSolveFileReportsStatsOfEachSolve() throws IOException {
+        File file = new File(workDirectory, "stats.maze");
+        MazeFile.write(new MyMazeGenerator(79).generate(40, 60), file);
+        ExternalMemoryBreadthFirstSearch searcher = new ExternalMemoryBreadthFirstSearch(workDirectory);
+
+        Solution first = searcher.solveFile(file);
+        long evaluated = searcher.getNumberOfNodesEvaluated();
+        Solution second = searcher.solveFile(file);
+
+        assertNotNull(second.getStats(), "a file solve should report its statistics");
+        assertEquals(first.getStats().getNodesExpanded(), second.getStats().getNodesExpanded(),
+                "the same maze should take the same expansions");
+        assertEquals(evaluated, searcher.getNumberOfNodesEvaluated(), "the counters should start over on every solve");
+
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        assertTrue(searcher.solveFile(file, token).isTimedOut(), "a cancelled token should stop a file solve");
+    }
+
+    /**
+     * a wall on the goal should give an empty path when the maze is read from a file
+     */
+    @Test
+    void testWalledGoalInMazeFile() throws IOException {
+        ExternalMemoryBreadthFirstSearch searcher = new ExternalMemoryBreadthFirstSearch(workDirectory);
+        Maze maze = new EmptyMazeGenerator().generate(10, 10);
+        maze.setCell(maze.getGoalPosition(), 1);
+        File file = new File(workDirectory, "walled.maze");
+        MazeFile.write(maze, file);
+        assertTrue(searcher.solveFile(file).getSolutionPath().isEmpty(), "a walled goal can't be reached");
+    }
+
+    /**
+     * the maze copy, the visited bits and the level file should be gone once a solve ends, found or not
+     */
+    @Test
+    void testWorkFilesAreDeleted() throws IOException {
+        ExternalMemoryBreadthFirstSearch searcher = new ExternalMemoryBreadthFirstSearch(workDirectory);
+        Maze maze = new MyMazeGenerator(73).generate(40, 40);
+        assertFalse(searcher.solve(new SearchableMaze(maze)).getSolutionPath().isEmpty(), "generated mazes are solvable");
+
+        for (int col = 0; col < 40; col++) {
+            maze.setCell(new Position(20, col), 1);
+        }
+        File file = new File(workDirectory, "cut.maze");
+        MazeFile.write(maze, file);
+        assertTrue(searcher.solveFile(file).getSolutionPath().isEmpty(), "a walled off goal can't be reached");
+
+        assertArrayEquals(new String[] { "cut.maze" }, workDirectory.list(), "only the given maze file should be left");
+    }
+}
@@ -0,0 +1,112 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the flat grid breadth first search.
+ * checks it finds the same shortest paths as the regular bfs.
+ */
+class FlatBreadthFirstSearchTest {
+
+    /**
+     * make sure the algorithm handles null input safely
+     */
+    @Test
+    void testNullInputReturnsNull() {
+        assertNull(new FlatBreadthFirstSearch().solve(null), "null input should return null solution");
+    }
+
+    /**
+     * test that the path goes from start to goal in a generated maze
+     */
+    @Test
+    void testSolvesValidMaze() {
+        IMazeGenerator generator = new MyMazeGenerator();
+        Maze maze = generator.generate(50, 50);
+        ISearchable searchable = new SearchableMaze(maze);
+
+        List<AState> steps = new FlatBreadthFirstSearch().solve(searchable).getSolutionPath();
+
+        assertFalse(steps.isEmpty(), "path should not be empty in solvable maze");
+        assertEquals(searchable.getStartState(), steps.get(0), "first step should be the start");
+        assertEquals(searchable.getGoalState(), steps.get(steps.size() - 1), "last step should be the goal");
+        for (int i = 1; i < steps.size(); i++) {
+            assertTrue(searchable.getAllPossibleStates(steps.get(i - 1)).contains(steps.get(i)), "steps should be neighbors");
+        }
+    }
+
+    /**
+     * the path length should match the regular bfs on random mazes
+     */
+    @Test
+    void testSameLengthAsBreadthFirstSearch() {
+        IMazeGenerator generator = new SimpleMazeGenerator();
+        for (int i = 0; i < 20; i++) {
+            Maze maze = generator.generate(30, 30);
+            int expected = new BreadthFirstSearch().solve(new SearchableMaze(maze)).getSolutionPath().size();
+            int actual = new FlatBreadthFirstSearch().solve(new SearchableMaze(maze)).getSolutionPath().size();
+            assertEquals(expected, actual, "flat bfs should find a shortest path");
+        }
+    }
+
+    /**
+     * test a maze where the goal is walled off
+     */
+    @Test
+    void testUnsolvableMazeReturnsEmptyPath() {
+        Maze maze = new Maze();
+        maze.setDimensions(3, 3);
+        maze.setCell(new Position(1, 1), 1);
+        maze.setCell(new Position(1, 2), 1);
+        maze.setCell(new Position(2, 1), 1);
+
+        Solution result = new FlatBreadthFirstSearch().solve(new SearchableMaze(maze));
+        assertTrue(result.getSolutionPath().isEmpty(), "path should be empty when no path exists");
+    }
+
+    /**
+     * the solution should carry the statistics of the solve that produced it
+     */
+    @Test
+    void testSolutionHasStats() {
+        Maze maze = new MyMazeGenerator().generate(20, 20);
+        FlatBreadthFirstSearch searcher = new FlatBreadthFirstSearch();
+        SearchStats stats = searcher.solve(new SearchableMaze(maze)).getStats();
+
+        assertNotNull(stats, "solve should attach stats to the solution");
+        assertEquals(searcher.getNumberOfNodesEvaluated(), stats.getNodesExpanded(), "expanded should match nodes evaluated");
+        assertTrue(stats.getNodesGenerated() >= stats.getNodesExpanded() - 1, "every expanded cell but the start was generated");
+        assertTrue(stats.getPeakFrontier() > 0, "the queue should have held cells");
+        assertTrue(stats.getWallTimeNanos() > 0, "the solve should take some time");
+    }
+
+    /**
+     * an unsolvable maze should be searched unless the reachability check is turned on
+     */
+    @Test
+    void testReachabilityCheckIsOptIn() {
+        Maze maze = new Maze();
+        maze.setDimensions(3, 3);
+        maze.setCell(new Position(1, 1), 1);
+        maze.setCell(new Position(1, 2), 1);
+        maze.setCell(new Position(2, 1), 1);
+
+        FlatBreadthFirstSearch searcher = new FlatBreadthFirstSearch();
+        assertFalse(searcher.isReachabilityCheck(), "the check should be off by default");
+        searcher.solve(new SearchableMaze(maze));
+        assertTrue(searcher.getNumberOfNodesEvaluated() > 0, "without the check the start region is searched");
+
+        searcher.setReachabilityCheck(true);
+        assertTrue(searcher.solve(new SearchableMaze(maze)).getSolutionPath().isEmpty(), "no path exists");
+        assertEquals(0, searcher.getNumberOfNodesEvaluated(), "with the check no search should run");
+    }
+}
@@ -0,0 +1,112 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the memory bounded frontier search.
+ * uses budgets below what a flat bfs needs, so the layered search and the path rebuild are used.
+ */
+class FrontierSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Frontier Search", new FrontierSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * the rebuilt paths should be valid and as short as the bfs ones
+     */
+    @Test
+    void testFindsShortestPathsWithinBudget() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(), new SimpleMazeGenerator() };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 5; i++) {
+                Maze maze = generator.generate(200, 200);
+                ISearchable searchable = new SearchableMaze(maze);
+                int expected = new FlatBreadthFirstSearch().solve(searchable).getSolutionPath().size();
+
+                // a flat bfs needs about 8 bytes per cell
+                List<AState> steps = new FrontierSearch(100_000).solve(searchable).getSolutionPath();
+                assertEquals(expected, steps.size(), "frontier search path should be a shortest path");
+                for (int j = 1; j < steps.size(); j++) {
+                    assertTrue(searchable.getAllPossibleStates(steps.get(j - 1)).contains(steps.get(j)), "steps should be neighbors");
+                }
+            }
+        }
+    }
+
+    /**
+     * a budget too small for the layers should stop the solve with an empty, timed out solution
+     */
+    @Test
+    void testBudgetTooSmall() {
+        Maze maze = new EmptyMazeGenerator().generate(200, 200);
+        FrontierSearch searcher = new FrontierSearch(2_000);
+        Solution solution = searcher.solve(new SearchableMaze(maze));
+
+        assertTrue(solution.getSolutionPath().isEmpty(), "a search over its budget should find no path");
+        assertTrue(solution.isTimedOut(), "a search over its budget should be marked as stopped");
+        assertNotNull(solution.getStats(), "a stopped search should still report its statistics");
+        assertTrue(new FrontierSearch(2_000).solveMaze(maze).isTimedOut(), "the direct maze solve should stop too");
+
+        // the three empty layer maps already take more than 500 bytes
+        FrontierSearch tiny = new FrontierSearch(500);
+        assertTrue(tiny.solve(new SearchableMaze(maze)).isTimedOut(), "a budget below the empty maps should stop the solve");
+        assertEquals(0, tiny.getNumberOfNodesEvaluated(), "no layer should be built once the budget is crossed");
+    }
+
+    /**
+     * a Maze or a maze file should be solved without a SearchableMaze, with the same path lengths
+     */
+    @Test
+    void testSolvesMazeAndFileDirectly() throws IOException {
+        IMazeGenerator generator = new SimpleMazeGenerator(8);
+        for (int i = 0; i < 5; i++) {
+            Maze maze = generator.generate(150, 120);
+            int expected = new FlatBreadthFirstSearch().solve(new SearchableMaze(maze)).getSolutionPath().size();
+            assertEquals(expected, new FrontierSearch(50_000).solveMaze(maze).getSolutionPath().size(),
+                    "a Maze should get a shortest path");
+
+            File file = File.createTempFile("frontier", ".maze");
+            try {
+                MazeFile.write(maze, file);
+                assertEquals(expected, new FrontierSearch(50_000).solveFile(file).getSolutionPath().size(),
+                        "a maze file should get a shortest path");
+            } finally {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * the memory bounded search should never label the whole maze, even when the check is turned on
+     */
+    @Test
+    void testSkipsReachabilityCheck() {
+        Maze maze = new Maze();
+        maze.setDimensions(3, 3);
+        maze.setCell(new Position(1, 1), 1);
+        maze.setCell(new Position(1, 2), 1);
+        maze.setCell(new Position(2, 1), 1);
+
+        FrontierSearch searcher = new FrontierSearch();
+        searcher.setReachabilityCheck(true);
+        assertTrue(searcher.solve(new SearchableMaze(maze)).getSolutionPath().isEmpty(), "no path exists");
+        assertTrue(searcher.getNumberOfNodesEvaluated() > 0, "the search should run instead of the labeling");
+    }
+}
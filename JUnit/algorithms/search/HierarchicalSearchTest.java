@@ -0,0 +1,105 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static algorithms.search.MazeSolverAssertions.assertValidPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the hierarchical search and its cluster graph.
+ * the paths are not always the shortest, so they are checked to be valid and found whenever bfs finds one.
+ */
+class HierarchicalSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Hierarchical Search", new HierarchicalSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * clusters of a single cell can't hold a transition
+     */
+    @Test
+    void testTooSmallClusterThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalSearch(1));
+    }
+
+    /**
+     * the search should find a valid path whenever bfs does, on seeded mazes and several cluster sizes
+     */
+    @Test
+    void testFindsPathWheneverBfsDoes() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(23), new SimpleMazeGenerator(23) };
+        int[] clusterSizes = { 2, 5, 16 };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 8; i++) {
+                SearchableMaze maze = new SearchableMaze(generator.generate(35 + 4 * i, 50 - 2 * i));
+                int shortest = new FlatBreadthFirstSearch().solve(maze).getSolutionPath().size();
+                for (int clusterSize : clusterSizes) {
+                    List<AState> steps = new HierarchicalSearch(clusterSize).solve(maze).getSolutionPath();
+
+                    assertEquals(shortest == 0, steps.isEmpty(), "a path should be found whenever bfs finds one");
+                    if (steps.isEmpty()) continue;
+                    assertTrue(steps.size() >= shortest, "no path can be shorter than the bfs one");
+                    assertValidPath(maze, steps);
+                }
+            }
+        }
+    }
+
+    /**
+     * a start and goal in the same cluster should be joined by a shortest path inside it
+     */
+    @Test
+    void testSameClusterGivesShortestPath() {
+        SearchableMaze maze = new SearchableMaze(new MyMazeGenerator(31).generate(15, 15));
+        int shortest = new FlatBreadthFirstSearch().solve(maze).getSolutionPath().size();
+        List<AState> steps = new HierarchicalSearch(16).solve(maze).getSolutionPath();
+
+        assertEquals(shortest, steps.size(), "a single cluster path should be a shortest path");
+        assertValidPath(maze, steps);
+    }
+
+    /**
+     * the graph should be shared by mazes with the same walls, and its edges should go both ways
+     * with a cost no lower than the number of moves between their cells
+     */
+    @Test
+    void testClusterGraphIsCachedAndSymmetric() {
+        Maze maze = new SimpleMazeGenerator(29).generate(40, 40);
+        ClusterGraph graph = ClusterGraph.of(new SearchableMaze(maze), 8);
+        assertSame(graph, ClusterGraph.of(new SearchableMaze(maze), 8), "same walls should share the graph");
+        assertTrue(graph.memoryBytes() >= 4L * graph.getNodeCount(), "the cache weighs the graph by its arrays");
+
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            assertEquals(node, graph.nodeOf(graph.cellOf(node)), "a node should be found from its cell");
+            int[] targets = graph.edgeTargets(node);
+            int[] costs = graph.edgeCosts(node);
+            for (int i = 0; i < targets.length; i++) {
+                assertTrue(costs[i] >= SearchableMaze.moveCount(graph.cellOf(node), graph.cellOf(targets[i]), 40),
+                        "an edge can't be shorter than the moves between its cells");
+                assertEquals(costs[i], costOf(graph, targets[i], node), "edges should go both ways at the same cost");
+            }
+        }
+    }
+
+    /**
+     * @return the cost of the edge between two nodes, or -1 if there is none
+     */
+    private static int costOf(ClusterGraph graph, int from, int to) {
+        int[] targets = graph.edgeTargets(from);
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == to) return graph.edgeCosts(from)[i];
+        }
+        return -1;
+    }
+}
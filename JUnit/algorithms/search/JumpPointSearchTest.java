@@ -0,0 +1,65 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the jump point search.
+ * checks that the filled in paths are valid and cost as much as the a* ones.
+ */
+class JumpPointSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Jump Point Search", new JumpPointSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * jps should find paths as cheap as a* on seeded mazes of both generators, one cell per step
+     */
+    @Test
+    void testSameCostAsAStar() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(7), new SimpleMazeGenerator(7) };
+        JumpPointSearch searcher = new JumpPointSearch();
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 20; i++) {
+                SearchableMaze maze = new SearchableMaze(generator.generate(30 + i, 50 - i));
+                List<AState> expected = new AStarSearch().solve(maze).getSolutionPath();
+                List<AState> actual = searcher.solve(maze).getSolutionPath();
+
+                assertEquals(expected.isEmpty(), actual.isEmpty(), "jps should find a path whenever a* does");
+                if (expected.isEmpty()) continue;
+                assertEquals(expected.get(expected.size() - 1).getCost(), actual.get(actual.size() - 1).getCost(),
+                        "jps path should cost as much as the a* path");
+                assertEquals(maze.getStartState(), actual.get(0), "path should start at the start");
+                assertEquals(maze.getGoalState(), actual.get(actual.size() - 1), "path should end at the goal");
+                for (int j = 1; j < actual.size(); j++) {
+                    assertTrue(maze.getAllPossibleStates(actual.get(j - 1)).contains(actual.get(j)), "steps should be neighbors");
+                    assertEquals(j, actual.get(j).getCost(), "every step should cost one");
+                }
+            }
+        }
+    }
+
+    /**
+     * on an empty maze only the start and the goal should be expanded
+     */
+    @Test
+    void testEmptyMazeJumpsToTheGoal() {
+        JumpPointSearch searcher = new JumpPointSearch();
+        List<AState> path = searcher.solve(new SearchableMaze(new EmptyMazeGenerator().generate(50, 50))).getSolutionPath();
+
+        assertEquals(50, path.size(), "diagonal path should have one step per row");
+        assertEquals(2, searcher.getNumberOfNodesEvaluated(), "only the start and the goal should be expanded");
+    }
+}
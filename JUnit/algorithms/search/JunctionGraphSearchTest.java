@@ -0,0 +1,110 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.Position;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import static algorithms.search.MazeSolverAssertions.assertShortestPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the junction graph search and the graph it runs on.
+ * checks its paths are as short as the bfs ones, also from starts in the middle of a corridor.
+ */
+class JunctionGraphSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Junction Graph Search", new JunctionGraphSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * the expanded path should be a shortest path on seeded mazes of both generators
+     */
+    @Test
+    void testSameLengthAsBfs() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(37), new SimpleMazeGenerator(37) };
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                assertShortestPath(new JunctionGraphSearch(), new SearchableMaze(generator.generate(30 + 6 * i, 55 - 2 * i)));
+            }
+        }
+    }
+
+    /**
+     * a start and goal inside corridors should be linked to the ends of their corridors
+     */
+    @Test
+    void testStartAndGoalInCorridors() {
+        Maze maze = new MyMazeGenerator(41).generate(41, 41);
+        SearchableMaze searchable = new SearchableMaze(maze);
+        JunctionGraph graph = JunctionGraph.of(searchable);
+        int placed = 0;
+        for (int cell = 0; cell < searchable.getCellCount() && placed < 20; cell++) {
+            if (searchable.getState(cell) == null || graph.nodeOf(cell) != -1) continue;
+            maze.setStartPosition(new Position(cell / 41, cell % 41));
+            assertShortestPath(new JunctionGraphSearch(), new SearchableMaze(maze));
+            placed++;
+        }
+        assertEquals(20, placed, "a perfect maze should have many corridor cells");
+    }
+
+    /**
+     * a single row is one corridor between its two ends, which should be walked cell by cell
+     */
+    @Test
+    void testSingleRowIsOneCorridor() {
+        Maze maze = new EmptyMazeGenerator().generate(1, 30);
+        SearchableMaze searchable = new SearchableMaze(maze);
+        JunctionGraph graph = JunctionGraph.of(searchable);
+        assertEquals(2, graph.getNodeCount(), "only the two ends should be nodes");
+        assertTrue(graph.memoryBytes() >= 4L * 30, "the graph should weigh at least an int per cell");
+        assertArrayEquals(new int[] { 29 }, graph.edgeLengths(graph.nodeOf(0)), "the row should be one edge");
+        assertEquals(30, new JunctionGraphSearch().solve(searchable).getSolutionPath().size(),
+                "every cell of the row should be on the path");
+
+        maze.setStartPosition(new Position(0, 10));
+        maze.setGoalPosition(new Position(0, 20));
+        assertEquals(11, new JunctionGraphSearch().solve(new SearchableMaze(maze)).getSolutionPath().size(),
+                "start and goal in the same corridor should be joined along it");
+
+        maze.setCell(new Position(0, 15), 1);
+        assertTrue(new JunctionGraphSearch().solve(new SearchableMaze(maze)).getSolutionPath().isEmpty(),
+                "a wall across the row should cut the path");
+    }
+
+    /**
+     * the graph should be shared by mazes with the same walls, its nodes should be the cells
+     * without exactly two moves, and walking an edge should end at its target after its length
+     */
+    @Test
+    void testJunctionGraphNodesAndEdges() {
+        Maze maze = new MyMazeGenerator(43).generate(35, 45);
+        SearchableMaze searchable = new SearchableMaze(maze);
+        JunctionGraph graph = JunctionGraph.of(searchable);
+        assertSame(graph, JunctionGraph.of(new SearchableMaze(maze)), "same walls should share the graph");
+
+        for (int cell = 0; cell < searchable.getCellCount(); cell++) {
+            boolean junction = searchable.getState(cell) != null
+                    && Integer.bitCount(searchable.getNeighborMask(cell)) != 2;
+            assertEquals(junction, graph.nodeOf(cell) != -1, "nodes should be the cells without exactly two moves");
+        }
+
+        int[] walk = new int[3];
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            int[] targets = graph.edgeTargets(node);
+            for (int i = 0; i < targets.length; i++) {
+                graph.walk(searchable, graph.cellOf(node), graph.edgeFirsts(node)[i], -1, walk);
+                assertEquals(graph.cellOf(targets[i]), walk[0], "the corridor should end at the edge target");
+                assertEquals(graph.edgeLengths(node)[i], walk[1], "the corridor should be as long as the edge");
+            }
+        }
+    }
+}
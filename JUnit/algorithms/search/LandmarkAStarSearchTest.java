@@ -0,0 +1,77 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the a* search with the landmark heuristic.
+ */
+class LandmarkAStarSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Landmark A Star Search", new LandmarkAStarSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * the landmark bounds never overestimate, so the paths should cost as much as the plain a* ones
+     */
+    @Test
+    void testSameCostAsAStarSearch() {
+        IMazeGenerator generator = new SimpleMazeGenerator(3);
+        for (int i = 0; i < 20; i++) {
+            SearchableMaze maze = new SearchableMaze(generator.generate(40, 40), 10, 14);
+            List<AState> expected = new AStarSearch().solve(maze).getSolutionPath();
+            List<AState> actual = new LandmarkAStarSearch().solve(maze).getSolutionPath();
+
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "both should agree on whether a path exists");
+            if (!actual.isEmpty()) {
+                assertEquals(expected.get(expected.size() - 1).getCost(), actual.get(actual.size() - 1).getCost(),
+                        "landmark a* should find a cheapest path");
+            }
+        }
+    }
+
+    /**
+     * once the landmarks are cached, a perfect maze should be solved expanding fewer cells than plain a*
+     */
+    @Test
+    void testFewerExpansionsOnRepeatedSolve() {
+        Maze maze = new MyMazeGenerator(11).generate(101, 101);
+        AStarSearch plain = new AStarSearch();
+        plain.solve(new SearchableMaze(maze));
+
+        LandmarkAStarSearch landmarks = new LandmarkAStarSearch();
+        landmarks.solve(new SearchableMaze(maze)); // builds the landmarks
+        landmarks.solve(new SearchableMaze(maze));
+        assertTrue(landmarks.getNumberOfNodesEvaluated() < plain.getNumberOfNodesEvaluated(),
+                "the cached landmarks should guide the search");
+    }
+
+    /**
+     * the solve server should keep the landmark search on large mazes instead of switching to the parallel bfs
+     */
+    @Test
+    void testKeptOnLargeMazes() {
+        assertTrue(new LandmarkAStarSearch() instanceof ILargeMazeSearch, "landmark a* is meant for large mazes");
+    }
+
+    /**
+     * the cache is limited in bytes, so a landmark set should weigh an int per cell and landmark
+     */
+    @Test
+    void testLandmarksWeighTheirDistances() {
+        SearchableMaze maze = new SearchableMaze(new MyMazeGenerator(83).generate(30, 50));
+        assertEquals(3 * 4L * 30 * 50, new Landmarks(maze, 3).memoryBytes(), "3 landmarks over 1500 cells");
+    }
+}
@@ -0,0 +1,46 @@
+package algorithms.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the least recently used cache of per-maze preprocessing.
+ */
+class LruCacheTest {
+
+    /**
+     * a cache limited by count should drop the least recently used entry
+     */
+    @Test
+    void testDropsLeastRecentlyUsedEntry() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a"), "a was used last and should stay");
+        assertNull(cache.get("b"), "b was used least recently and should be dropped");
+        assertEquals("3", cache.get("c"), "c was just added");
+    }
+
+    /**
+     * a cache limited by weight should keep the total weight under its capacity
+     */
+    @Test
+    void testKeepsWeightUnderCapacity() {
+        LruCache<Integer, int[]> cache = new LruCache<>(100, array -> 4L * array.length);
+        cache.put(1, new int[10]);  // 40 bytes
+        cache.put(2, new int[10]);  // 80 bytes
+        cache.put(3, new int[10]);  // 120 bytes, the first entry has to go
+
+        assertNull(cache.get(1), "the oldest entry should be dropped");
+        assertNotNull(cache.get(2), "the second entry still fits");
+        assertNotNull(cache.get(3), "the newest entry still fits");
+
+        cache.put(4, new int[30]); // heavier than the whole cache
+        assertNull(cache.get(4), "a value heavier than the cache should not be kept");
+        assertNotNull(cache.get(3), "a value that isn't kept should not push others out");
+    }
+}
@@ -0,0 +1,42 @@
+package algorithms.search;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * path checks shared by the tests of the maze solvers.
+ */
+final class MazeSolverAssertions {
+
+    private MazeSolverAssertions() {
+    }
+
+    /**
+     * checks that a solver returns a valid path of the same length as the flat bfs.
+     */
+    static void assertShortestPath(ISearchingAlgorithm solver, SearchableMaze maze) {
+        assertShortestPath(maze, solver.solve(maze).getSolutionPath(), solver.getName());
+    }
+
+    /**
+     * checks that a path is valid and as long as the flat bfs one.
+     */
+    static void assertShortestPath(SearchableMaze maze, List<AState> steps, String solverName) {
+        int expected = new FlatBreadthFirstSearch().solve(maze).getSolutionPath().size();
+        assertEquals(expected, steps.size(), solverName + " should find a shortest path");
+        if (steps.isEmpty()) return;
+        assertValidPath(maze, steps);
+    }
+
+    /**
+     * checks that a path goes from the start to the goal in single moves.
+     */
+    static void assertValidPath(SearchableMaze maze, List<AState> steps) {
+        assertEquals(maze.getStartState(), steps.get(0), "path should start at the start");
+        assertEquals(maze.getGoalState(), steps.get(steps.size() - 1), "path should end at the goal");
+        for (int j = 1; j < steps.size(); j++) {
+            assertTrue(maze.getAllPossibleStates(steps.get(j - 1)).contains(steps.get(j)), "steps should be neighbors");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * edge cases every maze solver should handle the same way: a walled off goal, a wall on the start
+ * or on the goal, and a maze of a single row. the tests of each solver only cover what is its own.
+ */
+class MazeSolverEdgeCasesTest {
+    @TempDir
+    File workDirectory;
+
+    /**
+     * @return a fresh instance of every maze solver
+     */
+    private List<Supplier<ISearchingAlgorithm>> solvers() {
+        return Arrays.asList(
+                FlatBreadthFirstSearch::new,
+                AStarSearch::new,
+                BidirectionalSearch::new,
+                JumpPointSearch::new,
+                ParallelBreadthFirstSearch::new,
+                DistanceFieldSearch::new,
+                () -> new HierarchicalSearch(4),
+                JunctionGraphSearch::new,
+                DeadEndFillingSearch::new,
+                BitboardBreadthFirstSearch::new,
+                FrontierSearch::new,
+                () -> new ExternalMemoryBreadthFirstSearch(workDirectory),
+                BucketAStarSearch::new,
+                WeightedAStarSearch::new,
+                LandmarkAStarSearch::new);
+    }
+
+    /**
+     * a goal walled off from the start should give an empty path, without running out of time
+     */
+    @Test
+    void testUnreachableGoal() {
+        Maze maze = new EmptyMazeGenerator().generate(20, 20);
+        for (int col = 0; col < 20; col++) {
+            maze.setCell(new Position(10, col), 1);
+        }
+        for (Supplier<ISearchingAlgorithm> solver : solvers()) {
+            ISearchingAlgorithm searcher = solver.get();
+            Solution solution = searcher.solve(new SearchableMaze(maze));
+            assertTrue(solution.getSolutionPath().isEmpty(), searcher.getName() + ": a walled off goal can't be reached");
+            assertFalse(solution.isTimedOut(), searcher.getName() + ": the search should end on its own");
+        }
+    }
+
+    /**
+     * a wall on the start or on the goal should give an empty path
+     */
+    @Test
+    void testWallOnStartOrGoal() {
+        Maze start = new EmptyMazeGenerator().generate(10, 10);
+        start.setCell(start.getStartPosition(), 1);
+        Maze goal = new EmptyMazeGenerator().generate(10, 10);
+        goal.setCell(goal.getGoalPosition(), 1);
+
+        for (Supplier<ISearchingAlgorithm> solver : solvers()) {
+            ISearchingAlgorithm searcher = solver.get();
+            assertTrue(searcher.solve(new SearchableMaze(start)).getSolutionPath().isEmpty(),
+                    searcher.getName() + ": a walled start can't be left");
+            assertTrue(searcher.solve(new SearchableMaze(goal)).getSolutionPath().isEmpty(),
+                    searcher.getName() + ": a walled goal can't be reached");
+        }
+    }
+
+    /**
+     * a maze of a single row should be walked cell by cell, and a wall in it should cut the path
+     */
+    @Test
+    void testSingleRowMaze() {
+        Maze open = new EmptyMazeGenerator().generate(1, 30);
+        Maze cut = new EmptyMazeGenerator().generate(1, 30);
+        cut.setCell(new Position(0, 15), 1);
+
+        for (Supplier<ISearchingAlgorithm> solver : solvers()) {
+            ISearchingAlgorithm searcher = solver.get();
+            assertEquals(30, searcher.solve(new SearchableMaze(open)).getSolutionPath().size(),
+                    searcher.getName() + ": every cell of the row should be on the path");
+            assertTrue(searcher.solve(new SearchableMaze(cut)).getSolutionPath().isEmpty(),
+                    searcher.getName() + ": a wall across the row should cut the path");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.EmptyMazeGenerator;
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static algorithms.search.MazeSolverAssertions.assertShortestPath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the level synchronous parallel bfs.
+ * runs it on a pool of several threads and checks it finds paths as short as the flat bfs.
+ */
+class ParallelBreadthFirstSearchTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Parallel Breadth First Search", new ParallelBreadthFirstSearch(POOL).getName(),
+                "name should match expected string");
+    }
+
+    /**
+     * the parallel bfs should find paths as short as the flat bfs on seeded mazes of both generators
+     */
+    @Test
+    void testSameLengthAsFlatBfs() {
+        IMazeGenerator[] generators = { new MyMazeGenerator(11), new SimpleMazeGenerator(11) };
+        ParallelBreadthFirstSearch searcher = new ParallelBreadthFirstSearch(POOL);
+        for (IMazeGenerator generator : generators) {
+            for (int i = 0; i < 10; i++) {
+                assertShortestPath(searcher, new SearchableMaze(generator.generate(40 + 7 * i, 60 - 3 * i)));
+            }
+        }
+    }
+
+    /**
+     * levels wider than one task (up to 2199 cells on the empty maze) should be split over the threads and still give a shortest path
+     */
+    @Test
+    void testLargeMazeSplitsLevels() {
+        ParallelBreadthFirstSearch searcher = new ParallelBreadthFirstSearch(POOL);
+        assertShortestPath(searcher, new SearchableMaze(new EmptyMazeGenerator().generate(1100, 1100)));
+        assertShortestPath(searcher, new SearchableMaze(new SimpleMazeGenerator(13).generate(1000, 1000)));
+    }
+}
@@ -0,0 +1,114 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the portfolio search and the cancellation of searches.
+ */
+class PortfolioSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Portfolio Search", new PortfolioSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * the solve server should keep the portfolio on large mazes instead of switching to the parallel bfs
+     */
+    @Test
+    void testKeptOnLargeMazes() {
+        assertTrue(new PortfolioSearch() instanceof ILargeMazeSearch, "the winners on large mazes should be recorded");
+    }
+
+    /**
+     * a portfolio without members can't solve anything
+     */
+    @Test
+    void testEmptyPortfolioThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new PortfolioSearch(Collections.emptyList()));
+    }
+
+    /**
+     * the portfolio should find a path whenever bfs does, and name one of its members as the winner
+     */
+    @Test
+    void testFindsPathAndRecordsWinner() {
+        IMazeGenerator generator = new MyMazeGenerator(3);
+        PortfolioSearch portfolio = new PortfolioSearch();
+        for (int i = 0; i < 10; i++) {
+            SearchableMaze maze = new SearchableMaze(generator.generate(60, 60));
+            List<AState> path = portfolio.solve(maze).getSolutionPath();
+
+            assertFalse(path.isEmpty(), "generated mazes are solvable");
+            assertEquals(maze.getStartState(), path.get(0), "path should start at the start");
+            assertEquals(maze.getGoalState(), path.get(path.size() - 1), "path should end at the goal");
+            assertTrue(Arrays.asList("Breadth First Search", "Depth First Search", "Best First Search")
+                    .contains(portfolio.getLastWinner()), "winner should be a member");
+        }
+        int total = portfolio.getWinCounts().values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(10, total, "every solve should have one winner");
+    }
+
+    /**
+     * a member that never ends on its own should be stopped once another member wins
+     */
+    @Test
+    void testLosersAreCancelled() throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        Supplier<ISearchingAlgorithm> endless = () -> new ASearchingAlgorithm() {
+            @Override
+            public String getName() {
+                return "Endless";
+            }
+
+            @Override
+            protected Solution search(ISearchable domain) {
+                try {
+                    while (true) {
+                        checkCancelled();
+                    }
+                } finally {
+                    stopped.countDown();
+                }
+            }
+        };
+        PortfolioSearch portfolio = new PortfolioSearch(
+                Arrays.<Supplier<? extends ISearchingAlgorithm>>asList(endless, FlatBreadthFirstSearch::new));
+
+        Solution solution = portfolio.solve(new SearchableMaze(new MyMazeGenerator(5).generate(30, 30)));
+        assertFalse(solution.getSolutionPath().isEmpty(), "the bfs member should find the path");
+        assertEquals("Flat Breadth First Search", portfolio.getLastWinner(), "the bfs member should win");
+        assertTrue(stopped.await(10, TimeUnit.SECONDS), "the endless member should be cancelled");
+    }
+
+    /**
+     * a search started with a cancelled token should give up with an empty solution and its statistics
+     */
+    @Test
+    void testCancelledTokenStopsSearch() {
+        SearchableMaze maze = new SearchableMaze(new MyMazeGenerator(9).generate(200, 200));
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        Solution solution = new FlatBreadthFirstSearch().solve(maze, token);
+        assertTrue(solution.getSolutionPath().isEmpty(), "a cancelled search should find no path");
+        assertTrue(solution.isTimedOut(), "a cancelled search should be marked as timed out");
+        assertNotNull(solution.getStats(), "a cancelled search should still report its statistics");
+        assertFalse(new FlatBreadthFirstSearch().solve(maze, new CancellationToken()).getSolutionPath().isEmpty(),
+                "a token that is not cancelled should not stop the search");
+    }
+}
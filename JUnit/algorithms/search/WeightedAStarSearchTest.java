@@ -0,0 +1,54 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * tests for the bounded suboptimal weighted a* search.
+ */
+class WeightedAStarSearchTest {
+
+    /**
+     * make sure the algorithm returns its correct name
+     */
+    @Test
+    void testAlgorithmName() {
+        assertEquals("Weighted A Star Search", new WeightedAStarSearch().getName(), "name should match expected string");
+    }
+
+    /**
+     * a negative bound makes no sense
+     */
+    @Test
+    void testNegativeEpsilonThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedAStarSearch(-0.1));
+    }
+
+    /**
+     * the cost should stay within the bound, and the reported lower bound should not beat the cheapest cost
+     */
+    @Test
+    void testCostWithinBound() {
+        IMazeGenerator generator = new SimpleMazeGenerator(7);
+        for (double epsilon : new double[]{ 0, 0.2, 1 }) {
+            for (int i = 0; i < 10; i++) {
+                SearchableMaze maze = new SearchableMaze(generator.generate(40, 40), 10, 14);
+                List<AState> optimal = new AStarSearch().solve(maze).getSolutionPath();
+                WeightedAStarSearch searcher = new WeightedAStarSearch(epsilon);
+                List<AState> path = searcher.solve(maze).getSolutionPath();
+
+                assertEquals(optimal.isEmpty(), path.isEmpty(), "both should agree on whether a path exists");
+                if (path.isEmpty()) continue;
+                double cheapest = optimal.get(optimal.size() - 1).getCost();
+                assertEquals(path.get(path.size() - 1).getCost(), searcher.getLastCost(), "reported cost should be the path cost");
+                assertTrue(searcher.getLastCost() <= (1 + epsilon) * cheapest, "cost should be within the bound");
+                assertTrue(searcher.getLastLowerBound() <= cheapest, "lower bound should not beat the cheapest cost");
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import algorithms.search.BatchResult;
+import algorithms.search.BatchSolver;
+import algorithms.search.FlatBreadthFirstSearch;
+import algorithms.search.SearchableMaze;
+import algorithms.search.Solution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * solves a corpus of many small mazes, one after another on one thread or all at once with BatchSolver.
+ * every operation is the whole corpus, so the average time is the time of one batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BatchBenchmark {
+    private static final long SEED = 20240601L;
+
+    @Param({"1000"})
+    public int count;
+
+    @Param({"30", "100"})
+    public int size;
+
+    private List<SearchableMaze> corpus;
+    private BatchSolver batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        corpus = Arrays.asList(MazeCorpus.build("my", size, count, SEED + size));
+        batch = new BatchSolver();
+    }
+
+    /**
+     * solves the corpus on the calling thread with a single solver.
+     *
+     * @return the last solution, so the work can't be removed as dead code
+     */
+    @Benchmark
+    public Solution sequential() {
+        FlatBreadthFirstSearch solver = new FlatBreadthFirstSearch();
+        Solution last = null;
+        for (SearchableMaze maze : corpus) {
+            last = solver.solve(maze);
+        }
+        return last;
+    }
+
+    /**
+     * solves the corpus with the batch solver on the common ForkJoinPool.
+     *
+     * @return the result of the batch
+     */
+    @Benchmark
+    public BatchResult batch() {
+        return batch.solveAll(corpus);
+    }
+}
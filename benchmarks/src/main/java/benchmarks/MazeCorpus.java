@@ -0,0 +1,52 @@
+package benchmarks;
+
+import algorithms.mazeGenerators.IMazeGenerator;
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.MyMazeGenerator;
+import algorithms.mazeGenerators.SimpleMazeGenerator;
+import algorithms.search.FlatBreadthFirstSearch;
+import algorithms.search.SearchableMaze;
+
+/**
+ * the mazes the benchmarks run on.
+ * every maze comes from a seeded generator, so every run and every fork sees the same corpus.
+ * mazes without a path from start to goal are skipped, so every solve does a full search.
+ */
+final class MazeCorpus {
+    private MazeCorpus() {
+    }
+
+    /**
+     * generates a corpus of solvable mazes.
+     *
+     * @param generator "my" for MyMazeGenerator or "simple" for SimpleMazeGenerator
+     * @param size rows and columns of every maze
+     * @param count number of mazes
+     * @param seed seed of the generator
+     * @return the mazes, ready to be searched
+     */
+    static SearchableMaze[] build(String generator, int size, int count, long seed) {
+        IMazeGenerator mazes;
+        switch (generator) {
+            case "my":
+                mazes = new MyMazeGenerator(seed);
+                break;
+            case "simple":
+                mazes = new SimpleMazeGenerator(seed);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown generator: " + generator);
+        }
+
+        SearchableMaze[] corpus = new SearchableMaze[count];
+        int found = 0;
+        while (found < count) {
+            Maze maze = mazes.generate(size, size);
+            SearchableMaze searchable = new SearchableMaze(maze);
+            if (!new FlatBreadthFirstSearch().solve(searchable).getSolutionPath().isEmpty()) {
+                corpus[found++] = searchable;
+            }
+        }
+        return corpus;
+    }
+}
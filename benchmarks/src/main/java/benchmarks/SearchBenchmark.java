@@ -0,0 +1,74 @@
+package benchmarks;
+
+import algorithms.search.ISearchingAlgorithm;
+import algorithms.search.SearchableMaze;
+import algorithms.search.Solution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * solves a fixed corpus of mazes with every search algorithm.
+ * throughput mode gives solves per millisecond and sample time mode gives the latency percentiles.
+ * the algorithm is picked by its class name in algorithms.search, so a new solver only needs to be
+ * added to the algorithm parameter (or passed with -p algorithm=...).
+ * solvers that cache work per maze see the same mazes again and again, so they are measured warm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SearchBenchmark {
+    // mazes in the corpus of every size, solved in turn
+    private static final int CORPUS_SIZE = 8;
+    private static final long SEED = 20240601L;
+
+    @Param({"BreadthFirstSearch", "DepthFirstSearch", "BestFirstSearch", "FlatBreadthFirstSearch",
+            "AStarSearch", "BidirectionalSearch", "JumpPointSearch", "ParallelBreadthFirstSearch",
+            "DistanceFieldSearch", "HierarchicalSearch", "JunctionGraphSearch", "DeadEndFillingSearch",
+            "BitboardBreadthFirstSearch", "FrontierSearch", "BucketAStarSearch",
+            "WeightedAStarSearch", "LandmarkAStarSearch", "PortfolioSearch"})
+    public String algorithm;
+
+    @Param({"my", "simple"})
+    public String generator;
+
+    @Param({"50", "250", "1000"})
+    public int size;
+
+    private ISearchingAlgorithm solver;
+    private SearchableMaze[] corpus;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        solver = (ISearchingAlgorithm) Class.forName("algorithms.search." + algorithm).getConstructor().newInstance();
+        corpus = MazeCorpus.build(generator, size, CORPUS_SIZE, SEED + size);
+        next = 0;
+    }
+
+    /**
+     * solves the next maze of the corpus.
+     *
+     * @return the solution, so the work can't be removed as dead code
+     */
+    @Benchmark
+    public Solution solve() {
+        SearchableMaze maze = corpus[next];
+        next = next + 1 == corpus.length ? 0 : next + 1;
+        return solver.solve(maze);
+    }
+}
@@ -2,6 +2,8 @@ package Server;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -10,6 +12,13 @@ import java.util.Properties;
  * - thread pool size
  * - maze generation algorithm
  * - maze searching algorithm
+ * - maze size from which the parallel search is used
+ * - memory budget of the frontier search
+ * - costs of straight and diagonal moves
+ * - suboptimality bound of the weighted a* search
+ * - algorithms raced by the portfolio search
+ * - time budget of a single solve request
+ * - whether unsolvable mazes are recognized before they are searched
  */
 public class Configurations {
     private static Configurations instance = null;
@@ -69,4 +78,78 @@ public class Configurations {
     public String getMazeSearchingAlgorithm() {
         return properties.getProperty("mazeSearchingAlgorithm", "BestFirstSearch");
     }
+
+    /**
+     * retrieves the number of maze cells (rows * columns) from which the solve server
+     * uses the parallel bfs instead of the configured searching algorithm,
+     * unless the configured algorithm is an ILargeMazeSearch.
+     * returns 4000000 if the value is not specified.
+     */
+    public long getParallelSearchThreshold() {
+        return Long.parseLong(properties.getProperty("parallelSearchThreshold", "4000000"));
+    }
+
+    /**
+     * retrieves the number of bytes the frontier search may use for its bfs layers.
+     * returns 268435456 (256 MB) if the value is not specified.
+     */
+    public long getMemoryBudgetBytes() {
+        return Long.parseLong(properties.getProperty("memoryBudgetBytes", "268435456"));
+    }
+
+    /**
+     * retrieves the cost of an up/down/left/right move in the mazes the solve server searches.
+     * returns 1 if the value is not specified.
+     */
+    public int getStraightMoveCost() {
+        return Integer.parseInt(properties.getProperty("straightMoveCost", "1"));
+    }
+
+    /**
+     * retrieves the cost of a diagonal move in the mazes the solve server searches.
+     * returns 1 if the value is not specified.
+     */
+    public int getDiagonalMoveCost() {
+        return Integer.parseInt(properties.getProperty("diagonalMoveCost", "1"));
+    }
+
+    /**
+     * retrieves how much more than the cheapest cost a path of the weighted a* search may cost,
+     * as a fraction (0.2 allows paths up to 20% more expensive).
+     * returns 0.2 if the value is not specified.
+     */
+    public double getSearchEpsilon() {
+        return Double.parseDouble(properties.getProperty("searchEpsilon", "0.2"));
+    }
+
+    /**
+     * retrieves the names of the searching algorithms the portfolio search races, separated by commas.
+     * returns BreadthFirstSearch, DepthFirstSearch and BestFirstSearch if the value is not specified.
+     */
+    public List<String> getPortfolioAlgorithms() {
+        List<String> names = new ArrayList<>();
+        for (String name : properties.getProperty("portfolioAlgorithms",
+                "BreadthFirstSearch,DepthFirstSearch,BestFirstSearch").split(",")) {
+            if (!name.trim().isEmpty()) names.add(name.trim());
+        }
+        return names;
+    }
+
+    /**
+     * retrieves how many milliseconds the solve server may spend searching a single maze,
+     * after which the search is stopped and a timed out solution is sent back. 0 means no limit.
+     * returns 30000 if the value is not specified.
+     */
+    public long getSolveTimeoutMillis() {
+        return Long.parseLong(properties.getProperty("solveTimeoutMillis", "30000"));
+    }
+
+    /**
+     * retrieves whether the solve server looks up the connected regions of a maze before searching it,
+     * so unsolvable mazes are answered without a search. the lookup labels every cell of a new maze once.
+     * returns false if the value is not specified.
+     */
+    public boolean isReachabilityCheck() {
+        return Boolean.parseBoolean(properties.getProperty("reachabilityCheck", "false"));
+    }
 }
@@ -4,14 +4,18 @@ import algorithms.mazeGenerators.Maze;
 import algorithms.search.*;
 
 import java.io.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * ServerStrategySolveSearchProblem
  * receives a Maze object from client
  * checks if solution exists in cache (by hashing byte[])
  * if not solved, solves it using a search algorithm (from config)
- * saves the solution to a file in the system temp directory
+ * saves the solution to a file in the system temp directory, unless the search ran out of its time budget
  * sends the solution back to the client
  */
 public class ServerStrategySolveSearchProblem implements IServerStrategy {
@@ -40,29 +44,46 @@ public class ServerStrategySolveSearchProblem implements IServerStrategy {
             } else {
                 // get algorithm from configuration
                 String algorithmName = Configurations.getInstance().getMazeSearchingAlgorithm();
-                ISearchingAlgorithm solver;
+                ISearchingAlgorithm solver = createSolver(algorithmName, tmpDir);
 
-                switch (algorithmName) {
-                    case "DepthFirstSearch":
-                        solver = new DepthFirstSearch();
-                        break;
-                    case "BreadthFirstSearch":
-                        solver = new BreadthFirstSearch();
-                        break;
-                    default:
-                        solver = new BestFirstSearch();
-                        break;
+                // very large mazes are spread over all cores, unless the solver is kept for large mazes
+                long cells = (long) maze.getRows() * maze.getColumns();
+                if (!(solver instanceof ILargeMazeSearch)
+                        && cells >= Configurations.getInstance().getParallelSearchThreshold()) {
+                    solver = new ParallelBreadthFirstSearch();
+                }
+
+                if (solver instanceof ASearchingAlgorithm) {
+                    ((ASearchingAlgorithm) solver).setReachabilityCheck(Configurations.getInstance().isReachabilityCheck());
                 }
 
                 // solve the maze
-                ISearchable searchableMaze = new SearchableMaze(maze);
-                solution = solver.solve(searchableMaze);
-                System.out.println("Solved maze using " + solver.getClass().getSimpleName());
+                ISearchable searchableMaze = new SearchableMaze(maze, Configurations.getInstance().getStraightMoveCost(),
+                        Configurations.getInstance().getDiagonalMoveCost());
+                long timeout = Configurations.getInstance().getSolveTimeoutMillis();
+                CancellationToken budget = timeout > 0
+                        ? CancellationToken.withTimeout(timeout, TimeUnit.MILLISECONDS) : new CancellationToken();
+                solution = solver.solve(searchableMaze, budget);
+                if (solution.isTimedOut()) {
+                    // a partial answer is not cached, a later request may get more time
+                    System.out.println(solver.getClass().getSimpleName() + " ran out of its " + timeout
+                            + " ms budget, " + solution.getStats());
+                } else {
+                    System.out.println("Solved maze using " + solver.getClass().getSimpleName());
+                    if (solver instanceof WeightedAStarSearch) {
+                        WeightedAStarSearch weighted = (WeightedAStarSearch) solver;
+                        System.out.println("Path cost " + weighted.getLastCost() + ", cheapest cost at least "
+                                + weighted.getLastLowerBound() + ", bound 1 + " + weighted.getEpsilon());
+                    }
+                    if (solver instanceof PortfolioSearch) {
+                        System.out.println("Portfolio won by " + ((PortfolioSearch) solver).getLastWinner());
+                    }
 
-                // save solution to file
-                try (ObjectOutputStream solutionOutput = new ObjectOutputStream(new FileOutputStream(solutionFile))) {
-                    solutionOutput.writeObject(solution);
-                    solutionOutput.flush();
+                    // save solution to file
+                    try (ObjectOutputStream solutionOutput = new ObjectOutputStream(new FileOutputStream(solutionFile))) {
+                        solutionOutput.writeObject(solution);
+                        solutionOutput.flush();
+                    }
                 }
             }
 
@@ -74,4 +95,58 @@ public class ServerStrategySolveSearchProblem implements IServerStrategy {
             e.printStackTrace();
         }
     }
+
+    /**
+     * creates the searching algorithm with the given name, BestFirstSearch for unknown names.
+     *
+     * @param algorithmName simple class name of the algorithm
+     * @param tmpDir directory for the work files of the solvers that need them
+     * @return a new solver
+     */
+    private static ISearchingAlgorithm createSolver(String algorithmName, String tmpDir) {
+        switch (algorithmName) {
+            case "DepthFirstSearch":
+                return new DepthFirstSearch();
+            case "BreadthFirstSearch":
+                return new BreadthFirstSearch();
+            case "FlatBreadthFirstSearch":
+                return new FlatBreadthFirstSearch();
+            case "AStarSearch":
+                return new AStarSearch();
+            case "BidirectionalSearch":
+                return new BidirectionalSearch();
+            case "JumpPointSearch":
+                return new JumpPointSearch();
+            case "ParallelBreadthFirstSearch":
+                return new ParallelBreadthFirstSearch();
+            case "DistanceFieldSearch":
+                return new DistanceFieldSearch();
+            case "HierarchicalSearch":
+                return new HierarchicalSearch();
+            case "JunctionGraphSearch":
+                return new JunctionGraphSearch();
+            case "DeadEndFillingSearch":
+                return new DeadEndFillingSearch();
+            case "BitboardBreadthFirstSearch":
+                return new BitboardBreadthFirstSearch();
+            case "FrontierSearch":
+                return new FrontierSearch(Configurations.getInstance().getMemoryBudgetBytes());
+            case "ExternalMemoryBreadthFirstSearch":
+                return new ExternalMemoryBreadthFirstSearch(new File(tmpDir));
+            case "BucketAStarSearch":
+                return new BucketAStarSearch();
+            case "WeightedAStarSearch":
+                return new WeightedAStarSearch(Configurations.getInstance().getSearchEpsilon());
+            case "LandmarkAStarSearch":
+                return new LandmarkAStarSearch();
+            case "PortfolioSearch":
+                List<Supplier<? extends ISearchingAlgorithm>> members = new ArrayList<>();
+                for (String member : Configurations.getInstance().getPortfolioAlgorithms()) {
+                    members.add(() -> createSolver(member, tmpDir));
+                }
+                return new PortfolioSearch(members);
+            default:
+                return new BestFirstSearch();
+        }
+    }
 }
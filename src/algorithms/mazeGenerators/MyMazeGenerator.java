@@ -7,6 +7,28 @@ import java.util.*;
  * always places the entry at the top-left (0,0) and the exit at the bottom-right (rows-1, cols-1).
  */
 public class MyMazeGenerator extends AMazeGenerator {
+    private final Random rand;
+
+    /**
+     * creates a generator that makes a different maze every time.
+     */
+    public MyMazeGenerator() {
+        this(new Random());
+    }
+
+    /**
+     * creates a generator whose mazes are decided by a seed,
+     * so the same seed gives the same sequence of mazes.
+     *
+     * @param seed the random seed
+     */
+    public MyMazeGenerator(long seed) {
+        this(new Random(seed));
+    }
+
+    private MyMazeGenerator(Random rand) {
+        this.rand = rand;
+    }
 
     /**
      * generates a maze with the given dimensions.
@@ -33,7 +55,6 @@ public class MyMazeGenerator extends AMazeGenerator {
         }
 
         Stack<Position> stack = new Stack<>();
-        Random rand = new Random();
 
         // start maze generation from cell (1,1)
         Position start = new Position(1, 1);
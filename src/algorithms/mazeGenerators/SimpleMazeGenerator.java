@@ -7,6 +7,28 @@ import java.util.Random;
  * always keeps the start and goal positions open.
  */
 public class SimpleMazeGenerator extends AMazeGenerator {
+    private final Random rand;
+
+    /**
+     * creates a generator that makes a different maze every time.
+     */
+    public SimpleMazeGenerator() {
+        this(new Random());
+    }
+
+    /**
+     * creates a generator whose mazes are decided by a seed,
+     * so the same seed gives the same sequence of mazes.
+     *
+     * @param seed the random seed
+     */
+    public SimpleMazeGenerator(long seed) {
+        this(new Random(seed));
+    }
+
+    private SimpleMazeGenerator(Random rand) {
+        this.rand = rand;
+    }
 
     /**
      * generates a maze with random walls and paths.
@@ -20,8 +42,6 @@ public class SimpleMazeGenerator extends AMazeGenerator {
         Maze maze = new Maze();
         maze.setDimensions(rows, columns);
 
-        Random rand = new Random();
-
         // randomly assign 0 (path) or 1 (wall) to each cell
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < columns; j++) {
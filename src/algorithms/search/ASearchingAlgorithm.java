@@ -1,12 +1,35 @@
 package algorithms.search;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
 /**
  * base class for all search algorithms.
- * handles counting of visited nodes during the search.
+ * collects the statistics of every solve and attaches them to its solution.
+ * with the reachability check turned on, it also answers mazes whose goal can't be reached from the
+ * start without running the search at all. the check labels every cell of the maze once, which costs
+ * an int per cell, so it is off unless the caller asks for it.
+ * the counters are reset when a solve starts, so a solver can be reused.
+ * a solve can be given a CancellationToken, which may carry a deadline: the search loops call
+ * checkCancelled as they expand nodes, and a solve whose token is cancelled or whose thread is
+ * interrupted ends with an empty, timed out solution and the statistics gathered so far.
+ * the solvers built on the flat cells of a SearchableMaze hand any other problem to the regular
+ * BreadthFirstSearch with delegate, unless their own doc says otherwise.
  */
 public abstract class ASearchingAlgorithm implements ISearchingAlgorithm {
-    // counts how many nodes were evaluated during the search
-    protected int visitedNodes = 0;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    // expansions between two looks at the cancellation token and the interrupt flag
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    // counts how many nodes were expanded during the current solve
+    protected long visitedNodes = 0;
+    // counts how many successors were added to the frontier or marked as reached
+    protected long generatedNodes = 0;
+    private long peakFrontier = 0;
+    private long peakClosed = 0;
+    private CancellationToken token;   // of the current solve, null if it can't be cancelled
+    private long untilCancelCheck;     // expansions left before the token is looked at again
+    private boolean reachabilityCheck; // look up the connected regions of a maze before searching it
 
     /**
      * returns the name of the search algorithm.
@@ -18,20 +41,206 @@ public abstract class ASearchingAlgorithm implements ISearchingAlgorithm {
 
     /**
      * solves a given searchable problem.
+     * with the reachability check on, an unsolvable maze returns an empty solution right away.
      *
      * @param domain the problem to solve
-     * @return a solution object containing the path
+     * @return a solution object containing the path and the statistics of the solve,
+     *         or null if domain is null
+     */
+    @Override
+    public Solution solve(ISearchable domain) {
+        return solve(domain, null);
+    }
+
+    /**
+     * solves a given searchable problem unless it is stopped first.
+     * the interrupt flag of the thread is left set when an interrupt stops the solve.
+     *
+     * @param domain the problem to solve
+     * @param token token that can stop the solve, or null
+     * @return a solution object containing the path and the statistics of the solve,
+     *         an empty timed out solution if the solve was stopped, or null if domain is null
      */
     @Override
-    public abstract Solution solve(ISearchable domain);
+    public Solution solve(ISearchable domain, CancellationToken token) {
+        if (domain == null) return null;
+
+        visitedNodes = 0;
+        generatedNodes = 0;
+        peakFrontier = 0;
+        peakClosed = 0;
+        this.token = token;
+        untilCancelCheck = CANCEL_CHECK_INTERVAL;
+        long startTime = System.nanoTime();
+        long startAllocated = allocatedBytes();
+
+        Solution solution;
+        try {
+            if (isCancelled()) {
+                throw new SearchStoppedException(); // stopped before it started, the maze is not even looked at
+            }
+            if (reachabilityCheck && checksReachability() && domain instanceof SearchableMaze
+                    && !((SearchableMaze) domain).isGoalReachable()) {
+                solution = new Solution(null); // start and goal are in different regions
+            } else {
+                solution = search(domain);
+            }
+        } catch (SearchStoppedException e) {
+            solution = new Solution(null);
+            solution.setTimedOut(true);
+        } finally {
+            this.token = null;
+        }
+
+        long allocated = startAllocated == -1 ? -1 : allocatedBytes() - startAllocated;
+        solution.setStats(new SearchStats(visitedNodes, generatedNodes, peakFrontier, peakClosed,
+                System.nanoTime() - startTime, allocated));
+        return solution;
+    }
+
+    /**
+     * turns the reachability check on or off for the next solves.
+     * when on, a maze is first looked up in the cached connected regions, so a maze whose goal can't
+     * be reached from the start is answered without a search, and so is every later query on a maze
+     * with the same walls. the first query on a maze labels all of its cells.
+     *
+     * @param enabled true to check reachability before searching
+     */
+    public void setReachabilityCheck(boolean enabled) {
+        reachabilityCheck = enabled;
+    }
+
+    /**
+     * @return true if a maze is checked for reachability before it is searched
+     */
+    public boolean isReachabilityCheck() {
+        return reachabilityCheck;
+    }
+
+    /**
+     * tells whether this algorithm may run the reachability check when it is turned on.
+     * memory bounded algorithms override it to return false, the labels take an int per cell.
+     *
+     * @return true unless the algorithm must not label the whole maze
+     */
+    protected boolean checksReachability() {
+        return true;
+    }
+
+    /**
+     * runs the actual search. called by solve with a non null domain.
+     *
+     * @param domain the problem to solve
+     * @return a solution object containing the path
+     */
+    protected abstract Solution search(ISearchable domain);
+
+    /**
+     * records the current size of the frontier, keeping the largest one.
+     *
+     * @param size number of states in the open list, queue or level
+     */
+    protected final void recordFrontier(long size) {
+        if (size > peakFrontier) peakFrontier = size;
+    }
+
+    /**
+     * records the current size of the closed set, keeping the largest one.
+     *
+     * @param size number of states remembered as reached or done
+     */
+    protected final void recordClosed(long size) {
+        if (size > peakClosed) peakClosed = size;
+    }
+
+    /**
+     * stops the current solve if its token was cancelled or its thread was interrupted.
+     * called by the search loops once per expanded node, looks at the token only every few hundred calls.
+     */
+    protected final void checkCancelled() {
+        checkCancelled(1);
+    }
+
+    /**
+     * stops the current solve if its token was cancelled or its thread was interrupted.
+     * called by the search loops that expand a whole level or batch at once.
+     *
+     * @param expanded number of nodes expanded since the last call
+     */
+    protected final void checkCancelled(long expanded) {
+        untilCancelCheck -= expanded;
+        if (untilCancelCheck > 0) return;
+        untilCancelCheck = CANCEL_CHECK_INTERVAL;
+        if (isCancelled()) {
+            throw new SearchStoppedException();
+        }
+    }
+
+    /**
+     * @return true if the token of the current solve was cancelled or the thread was interrupted,
+     *         looked at right away
+     */
+    protected final boolean isCancelled() {
+        return Thread.currentThread().isInterrupted() || (token != null && token.isCancelled());
+    }
+
+    /**
+     * solves a problem with another algorithm and adds its statistics to this solve.
+     * the other algorithm is stopped by the token of this solve too.
+     * this is how the maze solvers fall back to BreadthFirstSearch for problems that are not a SearchableMaze.
+     *
+     * @param other the algorithm to run
+     * @param domain the problem to solve
+     * @return the solution of the other algorithm
+     */
+    protected final Solution delegate(ISearchingAlgorithm other, ISearchable domain) {
+        Solution solution = other.solve(domain, token);
+        addStats(solution, other);
+        if (solution.isTimedOut() || isCancelled()) {
+            throw new SearchStoppedException(); // the other algorithm was stopped, so is this solve
+        }
+        return solution;
+    }
 
     /**
-     * returns how many nodes were evaluated by the algorithm.
+     * adds the statistics of a solution found by another algorithm to this solve.
      *
-     * @return number of evaluated nodes
+     * @param solution the solution of the other algorithm
+     * @param other the algorithm that found it
+     */
+    protected final void addStats(Solution solution, ISearchingAlgorithm other) {
+        SearchStats stats = solution.getStats();
+        if (stats == null) {
+            visitedNodes += other.getNumberOfNodesEvaluated();
+            return;
+        }
+        visitedNodes += stats.getNodesExpanded();
+        generatedNodes += stats.getNodesGenerated();
+        recordFrontier(stats.getPeakFrontier());
+        recordClosed(stats.getPeakClosed());
+    }
+
+    /**
+     * returns how many nodes were expanded by the last solve.
+     * see the SearchStats of the solution for the exact count and the other statistics.
+     *
+     * @return number of evaluated nodes, capped at Integer.MAX_VALUE
      */
     @Override
     public int getNumberOfNodesEvaluated() {
-        return visitedNodes;
+        return (int) Math.min(visitedNodes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return bytes allocated so far by the current thread, or -1 if the jvm can't tell
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
     }
 }
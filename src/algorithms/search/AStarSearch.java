@@ -0,0 +1,113 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * a* search over the flat cell indices of a SearchableMaze.
+ * orders the open list by f = g + h, where g is the real cost so far and h is the octile
+ * distance to the goal (or the estimate of a variant), so the returned path is a cheapest one
+ * under the move costs of the maze.
+ * g values live in an int[] and the open list is an indexed heap with decrease-key,
+ * so a cell that is reached by a cheaper path is re-parented in place.
+ */
+public class AStarSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "A Star Search";
+    }
+
+    /**
+     * solves a searchable problem using a* search.
+     *
+     * @param domain the problem to solve
+     * @return a solution object (shortest path from start to goal)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+
+        SearchContext context = SearchContext.acquire(maze.getCellCount());
+        try {
+            int[] g = context.cost;
+            int[] parent = context.parent;
+            long[] closed = context.visited;
+            IndexedMinHeap open = context.heap();
+            CellHeuristic h = heuristic(maze);
+
+            Arrays.fill(g, 0, maze.getCellCount(), Integer.MAX_VALUE);
+            g[startIndex] = 0;
+            parent[startIndex] = -1;
+            open.insert(startIndex, IndexedMinHeap.key(0, h.estimate(startIndex)));
+
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                visitedNodes++;
+                checkCancelled();
+                closed[current >>> 6] |= 1L << current;
+
+                if (current == goalIndex) {
+                    return maze.buildSolution(parent, goalIndex, g);
+                }
+
+                int mask = maze.getNeighborMask(current);
+                while (mask != 0) {
+                    int d = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int neighbor = current + maze.getStepOffset(d);
+                    if ((closed[neighbor >>> 6] & (1L << neighbor)) != 0) continue;
+
+                    int tentative = g[current] + maze.getMoveCost(d);
+
+                    // keep only the cheapest way found so far to every cell
+                    if (tentative < g[neighbor]) {
+                        g[neighbor] = tentative;
+                        parent[neighbor] = current;
+                        long key = IndexedMinHeap.key(tentative, h.estimate(neighbor));
+                        if (open.contains(neighbor)) {
+                            open.decreaseKey(neighbor, key);
+                        } else {
+                            open.insert(neighbor, key);
+                            generatedNodes++;
+                        }
+                    }
+                }
+                recordFrontier(open.size());
+                recordClosed(visitedNodes);
+            }
+
+            // no solution found
+            return new Solution(null);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * gives the estimate of the cost from a cell to the goal that orders the open list.
+     * it must never overestimate and must change by at most the cost of a move between neighbors,
+     * so the search stays optimal without opening a closed cell again. the octile distance by default.
+     *
+     * @param maze the maze being solved
+     * @return the estimate for every cell
+     */
+    CellHeuristic heuristic(SearchableMaze maze) {
+        int goalIndex = maze.getGoalIndex();
+        return cell -> maze.estimateCost(cell, goalIndex);
+    }
+}
@@ -4,7 +4,7 @@ package algorithms.search;
  * base class for a state in a search problem.
  * each problem (like maze) should extend this class to define its own state.
  */
-public abstract class AState {
+public abstract class AState implements Cloneable {
     protected double cost; // how much it costs to reach this state
     protected AState cameFrom; // previous state in the path
 
@@ -44,6 +44,20 @@ public abstract class AState {
         this.cameFrom = cameFrom;
     }
 
+    /**
+     * returns a shallow copy of this state, used to put states into a solution
+     * without changing the ones owned by the searched problem.
+     *
+     * @return a copy with the same fields
+     */
+    protected AState copy() {
+        try {
+            return (AState) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e); // AState is Cloneable
+        }
+    }
+
     /**
      * checks if this state equals another one.
      *
@@ -0,0 +1,99 @@
+package algorithms.search;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * the solutions of a batch solve, in the order of the problems, and its totals:
+ * - how many problems got a path, and how many were stopped before they finished
+ * - nodes expanded by all solves together, from the SearchStats of the solutions
+ * - number of solver instances, one per worker thread that solved problems
+ * - wall time of the whole batch, and the problems solved per second it gives
+ */
+public class BatchResult {
+    private final List<Solution> solutions;
+    private final int workers;
+    private final long wallTimeNanos;
+    private final int solved;
+    private final int timedOut;
+    private final long nodesExpanded;
+
+    /**
+     * creates the result of a batch and adds up the statistics of its solutions.
+     */
+    BatchResult(List<Solution> solutions, int workers, long wallTimeNanos) {
+        this.solutions = Collections.unmodifiableList(solutions);
+        this.workers = workers;
+        this.wallTimeNanos = wallTimeNanos;
+
+        int solvedCount = 0;
+        int timedOutCount = 0;
+        long expanded = 0;
+        for (Solution solution : solutions) {
+            if (solution == null) continue;
+            if (!solution.getSolutionPath().isEmpty()) solvedCount++;
+            if (solution.isTimedOut()) timedOutCount++;
+            if (solution.getStats() != null) expanded += solution.getStats().getNodesExpanded();
+        }
+        solved = solvedCount;
+        timedOut = timedOutCount;
+        nodesExpanded = expanded;
+    }
+
+    /**
+     * @return the solutions, solutions.get(i) belongs to the i-th problem
+     */
+    public List<Solution> getSolutions() {
+        return solutions;
+    }
+
+    /**
+     * @return number of problems for which a path was found
+     */
+    public int getSolved() {
+        return solved;
+    }
+
+    /**
+     * @return number of solves stopped before they finished
+     */
+    public int getTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * @return nodes expanded by all solves together
+     */
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * @return number of solver instances the batch used, one per worker thread,
+     *         plus one for every solver that waited on the pool while its thread ran another part of the batch
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return wall time of the batch in nanoseconds
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * @return problems solved per second of wall time, 0 for an empty batch
+     */
+    public double getProblemsPerSecond() {
+        return wallTimeNanos == 0 ? 0 : solutions.size() * 1e9 / wallTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("problems=%d solved=%d timedOut=%d expanded=%d workers=%d time=%.3fms rate=%.1f/s",
+                solutions.size(), solved, timedOut, nodesExpanded, workers, wallTimeNanos / 1e6,
+                getProblemsPerSecond());
+    }
+}
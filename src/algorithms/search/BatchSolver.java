@@ -0,0 +1,155 @@
+package algorithms.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * solves many problems at once on a ForkJoinPool.
+ * the list of problems is split in halves until the parts are small, and idle workers steal parts
+ * from busy ones, so mazes of very different sizes still keep every core busy.
+ * every worker thread gets its own solver instance for the whole batch, and the solvers of this
+ * package keep their arrays in a per thread SearchContext, so the scratch memory of a worker is
+ * reused from one maze to the next instead of being allocated per maze.
+ * one problem is solved by one worker only, the problems themselves are not shared.
+ */
+public class BatchSolver {
+    // parts of the batch with at most this many problems are solved by a single task
+    private static final int GRAIN = 4;
+
+    private final Supplier<? extends ISearchingAlgorithm> solvers;
+    private final ForkJoinPool pool;
+
+    /**
+     * creates a batch solver that uses FlatBreadthFirstSearch on the common ForkJoinPool.
+     */
+    public BatchSolver() {
+        this(FlatBreadthFirstSearch::new);
+    }
+
+    /**
+     * creates a batch solver that runs on the common ForkJoinPool.
+     *
+     * @param solvers supplier of the solver, called once per worker and batch
+     */
+    public BatchSolver(Supplier<? extends ISearchingAlgorithm> solvers) {
+        this(solvers, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * creates a batch solver that runs on the given pool.
+     *
+     * @param solvers supplier of the solver, called once per worker and batch
+     * @param pool the pool that solves the problems
+     */
+    public BatchSolver(Supplier<? extends ISearchingAlgorithm> solvers, ForkJoinPool pool) {
+        this.solvers = solvers;
+        this.pool = pool;
+    }
+
+    /**
+     * solves all problems and waits for the last one.
+     *
+     * @param problems the problems to solve, null entries get a null solution
+     * @return the solutions in the order of the problems, with the statistics of the batch
+     */
+    public BatchResult solveAll(List<? extends ISearchable> problems) {
+        return solveAll(problems, null);
+    }
+
+    /**
+     * solves all problems unless the batch is stopped first.
+     * once the token is cancelled the running solves stop at their next check, and the solves
+     * of the remaining problems return a timed out solution without searching.
+     *
+     * @param problems the problems to solve, null entries get a null solution
+     * @param token token that can stop the batch, or null
+     * @return the solutions in the order of the problems, with the statistics of the batch
+     */
+    public BatchResult solveAll(List<? extends ISearchable> problems, CancellationToken token) {
+        Batch batch = new Batch(problems.toArray(new ISearchable[0]), solvers, token);
+        long startTime = System.nanoTime();
+        if (batch.problems.length > 0) {
+            pool.invoke(new SolveTask(batch, 0, batch.problems.length));
+        }
+        return new BatchResult(Arrays.asList(batch.solutions), batch.workers.get(), System.nanoTime() - startTime);
+    }
+
+    /**
+     * the problems, solutions and solvers of one solveAll call.
+     */
+    private static final class Batch {
+        final ISearchable[] problems;
+        final Solution[] solutions;
+        final CancellationToken token;
+        final AtomicInteger workers = new AtomicInteger(); // solver instances created
+        private final Supplier<? extends ISearchingAlgorithm> solvers;
+        // the idle solver of every worker thread, a new ThreadLocal per batch so they are dropped with it
+        private final ThreadLocal<ISearchingAlgorithm> idle = new ThreadLocal<>();
+
+        Batch(ISearchable[] problems, Supplier<? extends ISearchingAlgorithm> solvers, CancellationToken token) {
+            this.problems = problems;
+            this.solutions = new Solution[problems.length];
+            this.solvers = solvers;
+            this.token = token;
+        }
+
+        /**
+         * takes the solver of the current thread, or a new one if the thread has none.
+         * a solver that waits on the pool itself (like the parallel bfs) may have the thread run
+         * another part of the batch meanwhile, so a solver in use is never handed out twice.
+         */
+        ISearchingAlgorithm borrow() {
+            ISearchingAlgorithm solver = idle.get();
+            if (solver == null) {
+                workers.incrementAndGet();
+                return solvers.get();
+            }
+            idle.set(null);
+            return solver;
+        }
+
+        /**
+         * keeps a solver for the next part of the batch run by the current thread.
+         */
+        void giveBack(ISearchingAlgorithm solver) {
+            idle.set(solver);
+        }
+    }
+
+    /**
+     * solves a part of the batch, splitting it in halves until it is small enough.
+     */
+    private static class SolveTask extends RecursiveAction {
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        SolveTask(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SolveTask(batch, from, middle), new SolveTask(batch, middle, to));
+                return;
+            }
+
+            ISearchingAlgorithm solver = batch.borrow();
+            try {
+                for (int i = from; i < to; i++) {
+                    batch.solutions[i] = solver.solve(batch.problems[i], batch.token);
+                }
+            } finally {
+                batch.giveBack(solver);
+            }
+        }
+    }
+}
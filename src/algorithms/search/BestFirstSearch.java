@@ -27,45 +27,42 @@ public class BestFirstSearch extends ASearchingAlgorithm {
      * @return a solution object (path from start to goal)
      */
     @Override
-    public Solution solve(ISearchable domain) {
-        if (domain == null) return null;
-
+    protected Solution search(ISearchable domain) {
         AState start = domain.getStartState();
         AState goal = domain.getGoalState();
 
-        // priority queue ordered by estimated distance to goal
-        PriorityQueue<AState> open = new PriorityQueue<>(Comparator.comparingDouble(state -> estimate(state, goal)));
-        HashSet<AState> openSet = new HashSet<>();
-        HashSet<AState> closed = new HashSet<>();
-
-        open.add(start);
-        openSet.add(start);
-        start.setCameFrom(null);
+        SearchContext context = SearchContext.acquire(0);
+        try {
+            // priority queue ordered by estimated distance to goal
+            PriorityQueue<AState> open = new PriorityQueue<>(Comparator.comparingDouble(state -> estimate(state, goal)));
+            Map<AState, AState> cameFrom = context.cameFrom; // every state seen so far, closed or queued
+            NeighborVisitor visitor = new NeighborVisitor(open, cameFrom);
 
-        while (!open.isEmpty()) {
-            AState current = open.poll();
-            openSet.remove(current);
-            visitedNodes++;
-            closed.add(current);
-
-            if (current.equals(goal)) {
-                return new Solution(current);
-            }
+            open.add(start);
+            cameFrom.put(start, null);
 
-            for (AState neighbor : domain.getAllPossibleStates(current)) {
-                if (closed.contains(neighbor)) continue;
+            while (!open.isEmpty()) {
+                AState current = open.poll();
+                visitedNodes++;
+                checkCancelled();
 
-                // if we haven't visited this neighbor yet
-                if (!openSet.contains(neighbor)) {
-                    neighbor.setCameFrom(current);
-                    open.add(neighbor);
-                    openSet.add(neighbor);
+                if (current.equals(goal)) {
+                    return Solution.fromParents(current, cameFrom);
                 }
+
+                int seen = cameFrom.size();
+                visitor.current = current;
+                domain.forEachPossibleState(current, visitor);
+                generatedNodes += cameFrom.size() - seen;
+                recordFrontier(open.size());
+                recordClosed(cameFrom.size());
             }
-        }
 
-        // no solution found
-        return new Solution(null);
+            // no solution found
+            return new Solution(null);
+        } finally {
+            context.release();
+        }
     }
 
     /**
@@ -84,4 +81,28 @@ public class BestFirstSearch extends ASearchingAlgorithm {
         }
         return Double.POSITIVE_INFINITY;
     }
+
+    /**
+     * queues the neighbors of the current state that were not seen yet.
+     * one instance is reused for the whole search, so expanding a state creates no lists.
+     */
+    private static class NeighborVisitor implements IStateVisitor {
+        private final PriorityQueue<AState> open;
+        private final Map<AState, AState> cameFrom;
+        private AState current;
+
+        NeighborVisitor(PriorityQueue<AState> open, Map<AState, AState> cameFrom) {
+            this.open = open;
+            this.cameFrom = cameFrom;
+        }
+
+        @Override
+        public void visit(AState neighbor) {
+            // if we haven't visited or queued this neighbor yet
+            if (!cameFrom.containsKey(neighbor)) {
+                cameFrom.put(neighbor, current);
+                open.add(neighbor);
+            }
+        }
+    }
 }
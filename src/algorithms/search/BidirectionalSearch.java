@@ -0,0 +1,145 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * bidirectional breadth first search.
+ * grows one bfs frontier from the start and one from the goal, always expanding the smaller one
+ * by a full level, and stops at the first level where the two searches meet.
+ * assumes moves are symmetric (if b is a neighbor of a then a is a neighbor of b),
+ * so the backward search uses the regular getAllPossibleStates.
+ */
+public class BidirectionalSearch extends ASearchingAlgorithm {
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return the name string
+     */
+    @Override
+    public String getName() {
+        return "Bidirectional Search";
+    }
+
+    /**
+     * runs a bidirectional bfs on the given searchable domain.
+     *
+     * @param domain the searchable problem
+     * @return a shortest solution from start to goal if found, otherwise empty
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        AState start = domain.getStartState();
+        AState goal = domain.getGoalState();
+        if (start == null || goal == null) return new Solution(null);
+
+        // parent and depth of every state reached by each side
+        Map<AState, AState> forwardParent = new HashMap<>();
+        Map<AState, AState> backwardParent = new HashMap<>();
+        Map<AState, Integer> forwardDepth = new HashMap<>();
+        Map<AState, Integer> backwardDepth = new HashMap<>();
+
+        List<AState> forwardFrontier = new ArrayList<>();
+        List<AState> backwardFrontier = new ArrayList<>();
+
+        forwardParent.put(start, null);
+        forwardDepth.put(start, 0);
+        forwardFrontier.add(start);
+        backwardParent.put(goal, null);
+        backwardDepth.put(goal, 0);
+        backwardFrontier.add(goal);
+
+        if (start.equals(goal)) {
+            visitedNodes++;
+            checkCancelled();
+            return buildSolution(start, forwardParent, backwardParent);
+        }
+
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            AState meeting;
+            if (forwardFrontier.size() <= backwardFrontier.size()) {
+                meeting = expandLevel(domain, forwardFrontier, forwardParent, forwardDepth, backwardDepth);
+            } else {
+                meeting = expandLevel(domain, backwardFrontier, backwardParent, backwardDepth, forwardDepth);
+            }
+
+            if (meeting != null) {
+                return buildSolution(meeting, forwardParent, backwardParent);
+            }
+        }
+
+        // no path found
+        return new Solution(null);
+    }
+
+    /**
+     * expands every state of one side's frontier and replaces the frontier with the next level.
+     * if the level touches states reached by the other side, returns the meeting state
+     * with the smallest total depth.
+     *
+     * @param domain the searchable problem
+     * @param frontier states of the current level, replaced with the next level
+     * @param parent parent map of this side
+     * @param depth depth map of this side
+     * @param otherDepth depth map of the other side
+     * @return the best meeting state, or null if the sides did not meet
+     */
+    private AState expandLevel(ISearchable domain, List<AState> frontier, Map<AState, AState> parent,
+                               Map<AState, Integer> depth, Map<AState, Integer> otherDepth) {
+        List<AState> nextLevel = new ArrayList<>();
+        AState bestMeeting = null;
+        int bestLength = Integer.MAX_VALUE;
+
+        for (AState current : frontier) {
+            visitedNodes++;
+            checkCancelled();
+            int nextDepth = depth.get(current) + 1;
+
+            for (AState neighbor : domain.getAllPossibleStates(current)) {
+                if (depth.containsKey(neighbor)) continue;
+
+                parent.put(neighbor, current);
+                depth.put(neighbor, nextDepth);
+                nextLevel.add(neighbor);
+                generatedNodes++;
+
+                // finish the whole level so the shortest meeting point is picked
+                Integer other = otherDepth.get(neighbor);
+                if (other != null && nextDepth + other < bestLength) {
+                    bestLength = nextDepth + other;
+                    bestMeeting = neighbor;
+                }
+            }
+        }
+
+        recordFrontier(nextLevel.size());
+        recordClosed(depth.size() + otherDepth.size());
+        frontier.clear();
+        frontier.addAll(nextLevel);
+        return bestMeeting;
+    }
+
+    /**
+     * builds the solution from the start to the meeting state and from there to the goal.
+     *
+     * @param meeting a state reached by both sides
+     * @param forwardParent parents towards the start
+     * @param backwardParent parents towards the goal
+     * @return the solution path
+     */
+    private Solution buildSolution(AState meeting, Map<AState, AState> forwardParent, Map<AState, AState> backwardParent) {
+        List<AState> path = new ArrayList<>();
+        for (AState state = meeting; state != null; state = forwardParent.get(state)) {
+            path.add(state);
+        }
+        Collections.reverse(path); // start → meeting order
+        for (AState state = backwardParent.get(meeting); state != null; state = backwardParent.get(state)) {
+            path.add(state);
+        }
+        return Solution.fromPath(path, null);
+    }
+}
@@ -0,0 +1,235 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * breadth first search that expands a whole level at once with word-wide bit operations.
+ * walkable cells, the visited set and the frontier are stored as long[] bit rows
+ * (64 cells per word), and the next level of a row is the OR of its neighbor rows shifted by one
+ * column, masked with the walkable bits, including the rule that a diagonal needs both adjacent
+ * straight cells to be walkable.
+ * only words next to a frontier word are computed. the level of every cell is kept modulo 3 in two
+ * more bit planes, which is enough to walk back from the goal to the start afterwards.
+ */
+public class BitboardBreadthFirstSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    private int rows;
+    private int cols;
+    private int words; // words per row
+
+    /**
+     * returns the algorithm name.
+     *
+     * @return name string
+     */
+    @Override
+    public String getName() {
+        return "Bitboard Breadth First Search";
+    }
+
+    /**
+     * solves the given searchable problem with a level by level bitboard bfs.
+     *
+     * @param domain the searchable problem
+     * @return a shortest solution from start to goal (or empty if no path)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        rows = maze.getRows();
+        cols = maze.getColumns();
+        words = (cols + 63) >>> 6;
+        int size = rows * words;
+
+        long[] walkable = new long[size];
+        for (int row = 0, index = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++, index++) {
+                if (maze.getState(index) != null) walkable[slot(row, col)] |= 1L << col;
+            }
+        }
+
+        long[] visited = new long[size];
+        long[] frontier = new long[size];
+        long[] next = new long[size];
+        long[] levelLow = new long[size];  // bit 0 of the level modulo 3
+        long[] levelHigh = new long[size]; // bit 1 of the level modulo 3
+
+        int[] active = new int[16];     // words of the frontier that have cells
+        int[] candidates = new int[16]; // words that may get cells in the next level
+        int[] candidateMark = new int[size];
+        int activeCount = 1;
+
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+        int goalSlot = slot(goalIndex / cols, goalIndex % cols);
+        long goalBit = 1L << (goalIndex % cols);
+        int startSlot = slot(startIndex / cols, startIndex % cols);
+        visited[startSlot] |= 1L << (startIndex % cols);
+        frontier[startSlot] |= 1L << (startIndex % cols);
+        active[0] = startSlot;
+
+        int level = 0;
+        while (activeCount > 0) {
+            long expanded = 0;
+            for (int i = 0; i < activeCount; i++) {
+                expanded += Long.bitCount(frontier[active[i]]);
+            }
+            visitedNodes += expanded;
+            checkCancelled(expanded);
+            if ((visited[goalSlot] & goalBit) != 0) {
+                return walkBack(maze, visited, levelLow, levelHigh, goalIndex, level);
+            }
+
+            // the words around a frontier word, in its row and the rows above and below
+            if (candidates.length < 9 * activeCount) {
+                candidates = new int[Math.min(size, 9 * activeCount)];
+            }
+            int candidateCount = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int row = active[i] / words;
+                int w = active[i] % words;
+                long bits = frontier[active[i]];
+                // a neighbor word is only reached through the edge bit next to it
+                int firstWord = (bits & 1L) != 0 ? Math.max(0, w - 1) : w;
+                int lastWord = bits < 0 ? Math.min(words - 1, w + 1) : w;
+                for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                    for (int c = firstWord; c <= lastWord; c++) {
+                        int slot = r * words + c;
+                        if (candidateMark[slot] == level + 1) continue;
+                        candidateMark[slot] = level + 1;
+                        candidates[candidateCount++] = slot;
+                    }
+                }
+            }
+
+            int nextCount = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                long bits = expandWord(slot / words, slot % words, walkable, visited, frontier);
+                if (bits != 0) {
+                    next[slot] = bits;
+                    candidates[nextCount++] = slot;
+                }
+            }
+
+            // the new level becomes the frontier
+            level++;
+            boolean low = (level % 3 & 1) != 0;
+            boolean high = (level % 3 & 2) != 0;
+            for (int i = 0; i < activeCount; i++) {
+                frontier[active[i]] = 0;
+            }
+            long reached = 0;
+            for (int i = 0; i < nextCount; i++) {
+                int slot = candidates[i];
+                long bits = next[slot];
+                reached += Long.bitCount(bits);
+                frontier[slot] = bits;
+                visited[slot] |= bits;
+                if (low) levelLow[slot] |= bits;
+                if (high) levelHigh[slot] |= bits;
+            }
+            int[] swap = active;
+            active = candidates;
+            candidates = swap;
+            activeCount = nextCount;
+            generatedNodes += reached;
+            recordFrontier(reached);
+            recordClosed(visitedNodes + reached);
+        }
+
+        // no path found
+        return new Solution(null);
+    }
+
+    /**
+     * computes the cells of one word that are reached for the first time in the next level.
+     *
+     * @return the new cells of the word at (row, w)
+     */
+    private long expandWord(int row, int w, long[] walkable, long[] visited, long[] frontier) {
+        int base = row * words;
+
+        // same row: one step left or right
+        long bits = shiftRight(frontier, base, w) | shiftLeft(frontier, base, w);
+
+        // rows above and below: straight, and diagonal when both straight cells around it are open
+        for (int from = row - 1; from <= row + 1; from += 2) {
+            if (from < 0 || from >= rows) continue;
+            int fromBase = from * words;
+            long open = walkable[fromBase + w];
+            bits |= frontier[fromBase + w]
+                    | (shiftRight(frontier, fromBase, w) & open & shiftRight(walkable, base, w))
+                    | (shiftLeft(frontier, fromBase, w) & open & shiftLeft(walkable, base, w));
+        }
+
+        return bits & walkable[base + w] & ~visited[base + w];
+    }
+
+    /**
+     * word w of a row moved one column to the right: bit c holds the bit of column c - 1.
+     */
+    private long shiftRight(long[] bits, int base, int w) {
+        long carry = w > 0 ? bits[base + w - 1] >>> 63 : 0;
+        return (bits[base + w] << 1) | carry;
+    }
+
+    /**
+     * word w of a row moved one column to the left: bit c holds the bit of column c + 1.
+     */
+    private long shiftLeft(long[] bits, int base, int w) {
+        long carry = w + 1 < words ? bits[base + w + 1] << 63 : 0;
+        return (bits[base + w] >>> 1) | carry;
+    }
+
+    /**
+     * walks from the goal back to the start, always to a visited neighbor one level lower.
+     * neighbors differ by at most one level, so the level modulo 3 tells which one that is.
+     */
+    private Solution walkBack(SearchableMaze maze, long[] visited, long[] levelLow, long[] levelHigh,
+                              int goalIndex, int goalLevel) {
+        int[] cells = new int[goalLevel + 1];
+        int[] successors = new int[8];
+        int current = goalIndex;
+        cells[goalLevel] = current;
+
+        for (int level = goalLevel - 1; level >= 0; level--) {
+            int count = maze.getSuccessorIndices(current, successors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = successors[i];
+                int row = neighbor / cols;
+                int col = neighbor % cols;
+                int slot = slot(row, col);
+                long bit = 1L << col;
+                if ((visited[slot] & bit) == 0) continue;
+                int mod = ((levelLow[slot] & bit) != 0 ? 1 : 0) | ((levelHigh[slot] & bit) != 0 ? 2 : 0);
+                if (mod == level % 3) {
+                    current = neighbor;
+                    break;
+                }
+            }
+            cells[level] = current;
+        }
+
+        List<AState> path = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            path.add(maze.getState(cell));
+        }
+        return Solution.fromPath(path, null);
+    }
+
+    /**
+     * @return index of the word holding a cell
+     */
+    private int slot(int row, int col) {
+        return row * words + (col >>> 6);
+    }
+}
@@ -24,39 +24,65 @@ public class BreadthFirstSearch extends ASearchingAlgorithm {
      * @return a solution from start to goal (or empty if no path)
      */
     @Override
-    public Solution solve(ISearchable domain) {
-        if (domain == null) return null;
-
+    protected Solution search(ISearchable domain) {
         AState start = domain.getStartState();
         AState goal = domain.getGoalState();
 
-        Queue<AState> openQueue = new LinkedList<>();
-        Set<AState> closedSet = new HashSet<>();
-
-        start.setCost(0);
-        openQueue.add(start);
+        SearchContext context = SearchContext.acquire(0);
+        try {
+            Queue<AState> openQueue = new ArrayDeque<>();
+            Map<AState, AState> cameFrom = context.cameFrom; // every state seen so far, closed or queued
+            NeighborVisitor visitor = new NeighborVisitor(openQueue, cameFrom);
 
-        while (!openQueue.isEmpty()) {
-            AState current = openQueue.poll();
-            visitedNodes++;
-            closedSet.add(current);
+            cameFrom.put(start, null);
+            openQueue.add(start);
 
-            // if we reached the goal
-            if (current.equals(goal)) {
-                return new Solution(current);
-            }
+            while (!openQueue.isEmpty()) {
+                AState current = openQueue.poll();
+                visitedNodes++;
+                checkCancelled();
 
-            // check neighbors
-            for (AState neighbor : domain.getAllPossibleStates(current)) {
-                if (!closedSet.contains(neighbor) && !openQueue.contains(neighbor)) {
-                    neighbor.setCameFrom(current);
-                    neighbor.setCost(current.getCost() + 1); // uniform cost
-                    openQueue.add(neighbor);
+                // if we reached the goal
+                if (current.equals(goal)) {
+                    return Solution.fromParents(current, cameFrom);
                 }
+
+                // check neighbors
+                int seen = cameFrom.size();
+                visitor.current = current;
+                domain.forEachPossibleState(current, visitor);
+                generatedNodes += cameFrom.size() - seen;
+                recordFrontier(openQueue.size());
+                recordClosed(cameFrom.size());
             }
+
+            // no path found
+            return new Solution(null);
+        } finally {
+            context.release();
         }
+    }
 
-        // no path found
-        return new Solution(null);
+    /**
+     * queues the neighbors of the current state that were not seen yet.
+     * one instance is reused for the whole search, so expanding a state creates no lists.
+     */
+    private static class NeighborVisitor implements IStateVisitor {
+        private final Queue<AState> openQueue;
+        private final Map<AState, AState> cameFrom;
+        private AState current;
+
+        NeighborVisitor(Queue<AState> openQueue, Map<AState, AState> cameFrom) {
+            this.openQueue = openQueue;
+            this.cameFrom = cameFrom;
+        }
+
+        @Override
+        public void visit(AState neighbor) {
+            if (!cameFrom.containsKey(neighbor)) {
+                cameFrom.put(neighbor, current);
+                openQueue.add(neighbor);
+            }
+        }
     }
 }
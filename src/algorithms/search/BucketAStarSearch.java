@@ -0,0 +1,93 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * a* search for mazes with small integer move costs, such as 10 for a straight move and 14 for a diagonal.
+ * the open list is a BucketQueue indexed by f = g + h instead of a heap: the octile heuristic is
+ * consistent, so f never goes down along a path and a new f is at most two move costs above the
+ * smallest one in the queue, which makes every queue operation amortized O(1).
+ * a cell reached again more cheaply is queued a second time, the older entry is skipped once the
+ * cell is closed. the returned path is a cheapest one, with the cost of every step filled in.
+ */
+public class BucketAStarSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Bucket A Star Search";
+    }
+
+    /**
+     * solves a searchable problem using a* search with a bucket queue.
+     *
+     * @param domain the problem to solve
+     * @return a cheapest solution from start to goal (or empty if no path)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+
+        SearchContext context = SearchContext.acquire(maze.getCellCount());
+        try {
+            int[] g = context.cost;
+            int[] parent = context.parent;
+            long[] closed = context.visited;
+            BucketQueue open = new BucketQueue(2 * maze.getMaxMoveCost());
+
+            Arrays.fill(g, 0, maze.getCellCount(), Integer.MAX_VALUE);
+            g[startIndex] = 0;
+            parent[startIndex] = -1;
+            open.add(startIndex, maze.estimateCost(startIndex, goalIndex));
+
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                if ((closed[current >>> 6] & (1L << current)) != 0) continue; // an older, costlier entry
+                visitedNodes++;
+                checkCancelled();
+                closed[current >>> 6] |= 1L << current;
+
+                if (current == goalIndex) {
+                    return maze.buildSolution(parent, goalIndex, g);
+                }
+
+                int mask = maze.getNeighborMask(current);
+                while (mask != 0) {
+                    int d = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int neighbor = current + maze.getStepOffset(d);
+                    if ((closed[neighbor >>> 6] & (1L << neighbor)) != 0) continue;
+
+                    int tentative = g[current] + maze.getMoveCost(d);
+                    if (tentative < g[neighbor]) {
+                        if (g[neighbor] == Integer.MAX_VALUE) generatedNodes++;
+                        g[neighbor] = tentative;
+                        parent[neighbor] = current;
+                        open.add(neighbor, tentative + maze.estimateCost(neighbor, goalIndex));
+                    }
+                }
+                recordFrontier(open.size());
+                recordClosed(visitedNodes);
+            }
+
+            // no solution found
+            return new Solution(null);
+        } finally {
+            context.release();
+        }
+    }
+}
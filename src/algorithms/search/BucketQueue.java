@@ -0,0 +1,96 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * monotone priority queue of int ids with small non negative integer keys (dial's buckets).
+ * every key added is at most span above the key of the last id taken, so the keys fit in a ring of
+ * span + 1 buckets and adding or taking an id is amortized O(1).
+ * the keys taken out never go down, and an id can be added again with a lower key:
+ * the old entry stays in its bucket and the caller skips it when it comes out.
+ */
+class BucketQueue {
+    private final int[][] buckets; // ids of every key, by key modulo the number of buckets
+    private final int[] sizes;     // number of ids in every bucket
+    private final int mask;
+    private int minKey = 0;        // key of the last id taken, no id in the queue has a smaller one
+    private int size = 0;
+
+    /**
+     * creates an empty queue.
+     *
+     * @param span largest difference between a key being added and the key of the last id taken
+     */
+    BucketQueue(int span) {
+        int count = Integer.highestOneBit(Math.max(2, span + 1) - 1) << 1;
+        buckets = new int[count][16];
+        sizes = new int[count];
+        mask = count - 1;
+    }
+
+    /**
+     * @return true if no ids are queued
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of queued entries, counting ids added more than once
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * adds an id.
+     *
+     * @param id the id to add
+     * @param key its key, not below the key of the last id taken and within the span of it
+     * @throws IllegalArgumentException if the key is out of that range
+     */
+    void add(int id, int key) {
+        if (size == 0 && key - minKey > mask) {
+            minKey = key; // nothing queued and far ahead of the last key taken, the ring starts over
+        } else if (key < minKey || key - minKey > mask) {
+            throw new IllegalArgumentException("key " + key + " is outside the queue range from " + minKey);
+        }
+        int bucket = key & mask;
+        if (sizes[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], sizes[bucket] * 2);
+        }
+        buckets[bucket][sizes[bucket]++] = id;
+        size++;
+    }
+
+    /**
+     * removes an id with the smallest key. the queue must not be empty.
+     * ids with the same key come out last in, first out.
+     *
+     * @return the id
+     */
+    int poll() {
+        while (sizes[minKey & mask] == 0) {
+            minKey++;
+        }
+        size--;
+        int bucket = minKey & mask;
+        return buckets[bucket][--sizes[bucket]];
+    }
+
+    /**
+     * @return the key of the id taken by the last poll
+     */
+    int lastKey() {
+        return minKey;
+    }
+
+    /**
+     * removes all ids but keeps the buckets for reuse.
+     */
+    void clear() {
+        Arrays.fill(sizes, 0);
+        minKey = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,62 @@
+package algorithms.search;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * flag that asks one or more running searches to stop, optionally on its own once a deadline passes.
+ * a search started with a token looks at it every few hundred expansions, and once the token
+ * is cancelled it gives up and returns a timed out solution. cancelling is final, a token can't be reset.
+ * a token may be shared between threads.
+ */
+public class CancellationToken {
+    private static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    private final long deadline; // System.nanoTime at which the token cancels itself, or NO_DEADLINE
+    private volatile boolean cancelled;
+
+    /**
+     * creates a token that is only cancelled by calling cancel.
+     */
+    public CancellationToken() {
+        this.deadline = NO_DEADLINE;
+    }
+
+    /**
+     * creates a token that cancels itself after the given time.
+     *
+     * @param timeout how long the searches may run
+     * @param unit unit of timeout
+     * @return the token
+     * @throws IllegalArgumentException if timeout is negative
+     */
+    public static CancellationToken withTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        // a timeout too long to fit in the nanosecond clock is treated as ~292 years
+        return new CancellationToken(System.nanoTime() + Math.min(unit.toNanos(timeout), Long.MAX_VALUE / 2));
+    }
+
+    private CancellationToken(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * asks every search started with this token to stop.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return true once cancel was called or the deadline passed
+     */
+    public boolean isCancelled() {
+        if (cancelled) return true;
+        if (deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0) {
+            cancelled = true; // the clock is not read again
+            return true;
+        }
+        return false;
+    }
+}
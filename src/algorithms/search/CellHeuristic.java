@@ -0,0 +1,14 @@
+package algorithms.search;
+
+/**
+ * estimate of the cost from a maze cell to the goal of one search,
+ * used by AStarSearch and its variants to order the open list.
+ */
+interface CellHeuristic {
+
+    /**
+     * @param cell flat index of a cell
+     * @return estimated cost from the cell to the goal
+     */
+    int estimate(int cell);
+}
@@ -0,0 +1,339 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * abstract graph of a maze for hierarchical path finding.
+ * the maze is cut into square clusters. where a run of open cells crosses the border of two clusters,
+ * one or two transition cells on each side become abstract nodes. nodes on both sides of a transition
+ * are linked with cost 1, and nodes of the same cluster are linked with their bfs distance
+ * inside that cluster.
+ * a path across the maze is then found on this small graph and only refined, cluster by cluster,
+ * where it actually goes.
+ * graphs are built once per maze content and cluster size and shared through a cache limited in bytes.
+ */
+final class ClusterGraph {
+    // bytes of graphs kept in the cache, each takes a few arrays per node and per cluster
+    private static final long CACHE_BYTES = 64L << 20;
+    // rough size of an array header, for the edge arrays of every node and the node array of every cluster
+    private static final int ARRAY_HEADER_BYTES = 16;
+    // entrances at least this long get a transition at each end instead of one in the middle
+    private static final int LONG_ENTRANCE = 6;
+    private static final LruCache<GraphKey, ClusterGraph> CACHE =
+            new LruCache<>(CACHE_BYTES, ClusterGraph::memoryBytes);
+
+    private final int clusterSize;
+    private final int rows;
+    private final int cols;
+    private final int clusterColumns;
+
+    private final IntIntHashMap nodeOfCell = new IntIntHashMap(16); // node of every transition cell
+    private int[] cells = new int[16]; // cell of every node, trimmed to nodeCount once built
+    private int nodeCount;
+    private final int[][] edgeTargets; // neighbors of every node
+    private final int[][] edgeCosts;   // cost of every edge, same order as edgeTargets
+    private final int[][] clusterNodes; // nodes of every cluster
+
+    /**
+     * builds the abstract graph of a maze.
+     *
+     * @param maze the maze
+     * @param clusterSize side length of a cluster, in cells
+     */
+    private ClusterGraph(SearchableMaze maze, int clusterSize) {
+        this.clusterSize = clusterSize;
+        rows = maze.getRows();
+        cols = maze.getColumns();
+        clusterColumns = (cols + clusterSize - 1) / clusterSize;
+
+        List<List<int[]>> edges = new ArrayList<>();
+
+        // borders between clusters side by side
+        for (int x = clusterSize; x < cols; x += clusterSize) {
+            for (int r0 = 0; r0 < rows; r0 += clusterSize) {
+                int r1 = Math.min(r0 + clusterSize, rows);
+                int runStart = -1;
+                for (int r = r0; r <= r1; r++) {
+                    boolean open = r < r1 && maze.isWalkable(r, x - 1) && maze.isWalkable(r, x);
+                    if (open && runStart == -1) runStart = r;
+                    if (!open && runStart != -1) {
+                        for (int t : transitionsOf(runStart, r - 1)) {
+                            link(edges, t * cols + x - 1, t * cols + x, 1);
+                        }
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+
+        // borders between clusters on top of each other
+        for (int y = clusterSize; y < rows; y += clusterSize) {
+            for (int c0 = 0; c0 < cols; c0 += clusterSize) {
+                int c1 = Math.min(c0 + clusterSize, cols);
+                int runStart = -1;
+                for (int c = c0; c <= c1; c++) {
+                    boolean open = c < c1 && maze.isWalkable(y - 1, c) && maze.isWalkable(y, c);
+                    if (open && runStart == -1) runStart = c;
+                    if (!open && runStart != -1) {
+                        for (int t : transitionsOf(runStart, c - 1)) {
+                            link(edges, (y - 1) * cols + t, y * cols + t, 1);
+                        }
+                        runStart = -1;
+                    }
+                }
+            }
+        }
+
+        cells = Arrays.copyOf(cells, nodeCount);
+
+        // group the nodes by cluster: count them, then fill every cluster's array
+        int clusterCount = ((rows + clusterSize - 1) / clusterSize) * clusterColumns;
+        int[] filled = new int[clusterCount];
+        for (int cell : cells) {
+            filled[clusterOf(cell)]++;
+        }
+        clusterNodes = new int[clusterCount][];
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            clusterNodes[cluster] = new int[filled[cluster]];
+            filled[cluster] = 0;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            int cluster = clusterOf(cells[node]);
+            clusterNodes[cluster][filled[cluster]++] = node;
+        }
+
+        // nodes of the same cluster are linked by their distance inside the cluster
+        int[] dist = new int[clusterSize * clusterSize];
+        int[] parent = new int[clusterSize * clusterSize];
+        for (int[] nodes : clusterNodes) {
+            for (int from : nodes) {
+                searchCluster(maze, cells[from], -1, dist, parent);
+                for (int to : nodes) {
+                    int d = dist[localIndex(cells[to])];
+                    if (to != from && d > 0) {
+                        edges.get(from).add(new int[]{ to, d });
+                    }
+                }
+            }
+        }
+
+        edgeTargets = new int[nodeCount][];
+        edgeCosts = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            List<int[]> list = edges.get(node);
+            edgeTargets[node] = new int[list.size()];
+            edgeCosts[node] = new int[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                edgeTargets[node][i] = list.get(i)[0];
+                edgeCosts[node][i] = list.get(i)[1];
+            }
+        }
+    }
+
+    /**
+     * returns the graph of a maze, from the cache if a maze with the same walls was processed before.
+     *
+     * @param maze the maze
+     * @param clusterSize side length of a cluster, in cells
+     * @return the abstract graph
+     */
+    static ClusterGraph of(SearchableMaze maze, int clusterSize) {
+        GraphKey key = new GraphKey(maze.getFingerprint(), clusterSize);
+        ClusterGraph graph = CACHE.get(key);
+        if (graph == null) {
+            graph = new ClusterGraph(maze, clusterSize);
+            CACHE.put(key, graph);
+        }
+        return graph;
+    }
+
+    /**
+     * @return bytes taken by the graph: the node lookup, the cell of every node, the edges and the clusters
+     */
+    long memoryBytes() {
+        long bytes = nodeOfCell.memoryBytes() + 4L * cells.length;
+        for (int node = 0; node < nodeCount; node++) {
+            bytes += 2L * (ARRAY_HEADER_BYTES + 4L * edgeTargets[node].length);
+        }
+        for (int[] nodes : clusterNodes) {
+            bytes += ARRAY_HEADER_BYTES + 4L * nodes.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return number of abstract nodes
+     */
+    int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the maze cell of an abstract node
+     */
+    int cellOf(int node) {
+        return cells[node];
+    }
+
+    /**
+     * @return the abstract node placed on a cell, or -1 if there is none
+     */
+    int nodeOf(int cell) {
+        return nodeOfCell.get(cell);
+    }
+
+    /**
+     * @return the nodes linked to a node
+     */
+    int[] edgeTargets(int node) {
+        return edgeTargets[node];
+    }
+
+    /**
+     * @return the costs of the edges of a node, in the order of edgeTargets
+     */
+    int[] edgeCosts(int node) {
+        return edgeCosts[node];
+    }
+
+    /**
+     * @return the nodes placed in a cluster
+     */
+    int[] nodesIn(int cluster) {
+        return clusterNodes[cluster];
+    }
+
+    /**
+     * @return the cluster a cell belongs to
+     */
+    int clusterOf(int cell) {
+        return (cell / cols / clusterSize) * clusterColumns + (cell % cols) / clusterSize;
+    }
+
+    /**
+     * @return the position of a cell inside its cluster, in [0, clusterSize * clusterSize)
+     */
+    int localIndex(int cell) {
+        return (cell / cols % clusterSize) * clusterSize + cell % cols % clusterSize;
+    }
+
+    /**
+     * @return the maze cell at a position inside the cluster of another cell
+     */
+    int cellAt(int cellInCluster, int localIndex) {
+        int row = bandStart(cellInCluster / cols) + localIndex / clusterSize;
+        int col = bandStart(cellInCluster % cols) + localIndex % clusterSize;
+        return row * cols + col;
+    }
+
+    /**
+     * runs a bfs from a cell that never leaves the cell's cluster.
+     *
+     * @param maze the maze
+     * @param source the cell to start from
+     * @param target a cell to stop at once it is reached, or -1 to search the whole cluster
+     * @param dist receives the distance of every cell of the cluster by local index, -1 if not reached
+     * @param parent receives the local index of the previous cell, -1 for the source
+     * @return number of cells expanded
+     */
+    int searchCluster(SearchableMaze maze, int source, int target, int[] dist, int[] parent) {
+        Arrays.fill(dist, -1);
+        int cluster = clusterOf(source);
+        int[] queue = new int[clusterSize * clusterSize];
+        int[] successors = new int[8];
+        int head = 0;
+        int tail = 0;
+
+        dist[localIndex(source)] = 0;
+        parent[localIndex(source)] = -1;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int current = queue[head++];
+            if (current == target) break;
+            int currentLocal = localIndex(current);
+            int count = maze.getSuccessorIndices(current, successors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = successors[i];
+                if (clusterOf(neighbor) != cluster) continue;
+                int local = localIndex(neighbor);
+                if (dist[local] == -1) {
+                    dist[local] = dist[currentLocal] + 1;
+                    parent[local] = currentLocal;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return head;
+    }
+
+    /**
+     * @return the first row (or column) of the cluster band a row (or column) falls in
+     */
+    private int bandStart(int rowOrColumn) {
+        return rowOrColumn - rowOrColumn % clusterSize;
+    }
+
+    /**
+     * picks the transition rows (or columns) of an entrance: the middle of a short one,
+     * both ends of a long one.
+     */
+    private static int[] transitionsOf(int first, int last) {
+        if (last - first + 1 < LONG_ENTRANCE) {
+            return new int[]{ (first + last) / 2 };
+        }
+        return new int[]{ first, last };
+    }
+
+    /**
+     * adds a two way edge between two cells, creating their nodes if needed.
+     */
+    private void link(List<List<int[]>> edges, int cellA, int cellB, int cost) {
+        int a = addNode(edges, cellA);
+        int b = addNode(edges, cellB);
+        edges.get(a).add(new int[]{ b, cost });
+        edges.get(b).add(new int[]{ a, cost });
+    }
+
+    /**
+     * @return the node of a cell, created if it doesn't exist yet
+     */
+    private int addNode(List<List<int[]>> edges, int cell) {
+        if (!nodeOfCell.putIfAbsent(cell, nodeCount)) return nodeOfCell.get(cell);
+        if (nodeCount == cells.length) {
+            cells = Arrays.copyOf(cells, nodeCount * 2);
+        }
+        cells[nodeCount] = cell;
+        edges.add(new ArrayList<>());
+        return nodeCount++;
+    }
+
+    /**
+     * cache key: the maze content and the cluster size.
+     */
+    private static final class GraphKey {
+        private final MazeFingerprint fingerprint;
+        private final int clusterSize;
+
+        GraphKey(MazeFingerprint fingerprint, int clusterSize) {
+            this.fingerprint = fingerprint;
+            this.clusterSize = clusterSize;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof GraphKey)) return false;
+            GraphKey other = (GraphKey) obj;
+            return clusterSize == other.clusterSize && fingerprint.equals(other.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, clusterSize);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * incremental planner (d* lite) bound to one maze.
+ * searches backwards from the goal and keeps, for every cell, its cost to the goal (g) and a one step
+ * lookahead of it (rhs). when cells of the maze are turned into walls or opened, only the cells around
+ * them get a new rhs, and the search repairs the costs that changed, in order of how much they matter
+ * to the start. a start that moved along the path, as a walking agent would, is picked up by raising
+ * every key by the heuristic distance moved (km) instead of rebuilding the queue.
+ * moves follow the rules of SearchableMaze. a goal moved to another cell or a maze of another size
+ * starts the search over.
+ */
+public class DStarLitePlanner implements IIncrementalPlanner {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final Maze maze;
+    private final int straightCost;
+    private final int diagonalCost;
+
+    private int rows;
+    private int cols;
+    private long[] walkable;   // the walls seen by the last call, one bit per cell
+    private int[] g;           // cost from every cell to the goal, as far as the search knows
+    private int[] rhs;         // cost through the best neighbor, differs from g for cells still queued
+    private IndexedMinHeap open;
+    private int goalIndex = -1;
+    private int lastStart;     // start when the keys were last adjusted
+    private int km;            // heuristic distance the start moved since the first search
+    private long visitedNodes;
+
+    /**
+     * creates a planner for a maze where every move costs one.
+     *
+     * @param maze the maze, read again on every call
+     */
+    public DStarLitePlanner(Maze maze) {
+        this(maze, 1, 1);
+    }
+
+    /**
+     * creates a planner for a maze with weighted moves.
+     *
+     * @param maze the maze, read again on every call
+     * @param straightCost cost of an up/down/left/right move
+     * @param diagonalCost cost of a diagonal move
+     * @throws IllegalArgumentException if a cost is less than 1
+     */
+    public DStarLitePlanner(Maze maze, int straightCost, int diagonalCost) {
+        if (straightCost < 1 || diagonalCost < 1) {
+            throw new IllegalArgumentException("move costs must be at least 1");
+        }
+        this.maze = maze;
+        this.straightCost = straightCost;
+        this.diagonalCost = diagonalCost;
+    }
+
+    /**
+     * returns the name of the planner.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "D Star Lite";
+    }
+
+    /**
+     * plans a path, comparing the whole maze to the walls seen by the last call to find what changed.
+     *
+     * @return a cheapest solution from start to goal (or empty if no path)
+     */
+    @Override
+    public Solution plan() {
+        visitedNodes = 0;
+        if (!prepare()) {
+            for (int index = 0; index < rows * cols; index++) {
+                applyChange(index);
+            }
+        }
+        return planPath();
+    }
+
+    /**
+     * plans a path, repairing only around the given cells.
+     * cells that didn't really change are skipped.
+     *
+     * @param changedCells the cells changed since the last call
+     * @return a cheapest solution from the current start to the goal (or empty if no path)
+     */
+    @Override
+    public Solution replan(Collection<Position> changedCells) {
+        visitedNodes = 0;
+        if (!prepare()) {
+            for (Position position : changedCells) {
+                applyChange(position.getRowIndex() * cols + position.getColumnIndex());
+            }
+        }
+        return planPath();
+    }
+
+    /**
+     * @return number of cells expanded by the last call
+     */
+    @Override
+    public int getNumberOfNodesEvaluated() {
+        return (int) Math.min(visitedNodes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * starts over if this is the first call, the goal moved or the maze changed size.
+     *
+     * @return true if the search state was built from scratch
+     */
+    private boolean prepare() {
+        int newGoal = indexOf(maze.getGoalPosition());
+        if (g != null && rows == maze.getRows() && cols == maze.getColumns() && goalIndex == newGoal) {
+            return false;
+        }
+
+        rows = maze.getRows();
+        cols = maze.getColumns();
+        int cellCount = rows * cols;
+        walkable = new long[(cellCount + 63) >>> 6];
+        int[][] grid = maze.getGrid();
+        for (int index = 0; index < cellCount; index++) {
+            if (grid[index / cols][index % cols] == 0) walkable[index >>> 6] |= 1L << index;
+        }
+
+        g = new int[cellCount];
+        rhs = new int[cellCount];
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        open = new IndexedMinHeap(cellCount);
+        goalIndex = indexOf(maze.getGoalPosition());
+        lastStart = indexOf(maze.getStartPosition());
+        km = 0;
+
+        rhs[goalIndex] = 0;
+        open.insert(goalIndex, key(goalIndex));
+        return true;
+    }
+
+    /**
+     * takes the new state of a cell from the maze and, if it changed, updates the cells whose moves
+     * it touches: the cell and its 8 neighbors (a diagonal also needs the two cells beside it).
+     */
+    private void applyChange(int index) {
+        int row = index / cols;
+        int col = index % cols;
+        boolean nowWalkable = maze.getGrid()[row][col] == 0;
+        if (nowWalkable == isWalkable(row, col)) return;
+        walkable[index >>> 6] ^= 1L << index;
+
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                updateCell(r * cols + c);
+            }
+        }
+    }
+
+    /**
+     * moves the keys along with the start, repairs the search and reads the path from the start.
+     */
+    private Solution planPath() {
+        int start = indexOf(maze.getStartPosition());
+        if (start != lastStart) {
+            km += heuristic(lastStart, start);
+            lastStart = start;
+        }
+        if (!isWalkable(start / cols, start % cols) || !isWalkable(goalIndex / cols, goalIndex % cols)) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        computeShortestPath(start);
+        if (g[start] == INFINITY) {
+            return new Solution(null); // no path found
+        }
+
+        // walk downhill: every step goes to the neighbor with the cheapest way to the goal
+        List<AState> path = new ArrayList<>();
+        List<Integer> costs = new ArrayList<>();
+        int current = start;
+        int cost = 0;
+        path.add(stateOf(current));
+        costs.add(0);
+        while (current != goalIndex) {
+            int bestMove = -1;
+            long bestCost = Long.MAX_VALUE;
+            for (int d = 0; d < 8; d++) {
+                int next = neighbor(current, d);
+                if (next != -1 && g[next] != INFINITY && (long) moveCost(d) + g[next] < bestCost) {
+                    bestCost = (long) moveCost(d) + g[next];
+                    bestMove = d;
+                }
+            }
+            if (bestMove == -1 || path.size() > rows * cols) {
+                throw new IllegalStateException("the path from the start doesn't lead to the goal");
+            }
+            current = neighbor(current, bestMove);
+            cost += moveCost(bestMove);
+            path.add(stateOf(current));
+            costs.add(cost);
+        }
+
+        int[] pathCosts = new int[costs.size()];
+        for (int i = 0; i < pathCosts.length; i++) pathCosts[i] = costs.get(i);
+        return Solution.fromPath(path, pathCosts);
+    }
+
+    /**
+     * expands cells until the start's cost is settled and no queued cell could change it.
+     */
+    private void computeShortestPath(int start) {
+        while (!open.isEmpty() && (open.peekKey() < key(start) || rhs[start] != g[start])) {
+            long oldKey = open.peekKey();
+            int cell = open.poll();
+            long newKey = key(cell);
+            if (oldKey < newKey) {
+                open.insert(cell, newKey); // its key went up since it was queued
+                continue;
+            }
+
+            visitedNodes++;
+            if (g[cell] > rhs[cell]) {
+                g[cell] = rhs[cell]; // got cheaper: settle it
+            } else {
+                g[cell] = INFINITY;  // got more expensive: take it out and let its neighbors look again
+                updateCell(cell);
+            }
+            for (int d = 0; d < 8; d++) {
+                int next = neighbor(cell, d);
+                if (next != -1) updateCell(next);
+            }
+        }
+    }
+
+    /**
+     * recomputes the rhs of a cell from its neighbors and queues it if it is inconsistent.
+     */
+    private void updateCell(int cell) {
+        if (cell != goalIndex) {
+            int best = INFINITY;
+            for (int d = 0; d < 8; d++) {
+                int next = neighbor(cell, d);
+                if (next != -1 && g[next] != INFINITY) {
+                    best = Math.min(best, moveCost(d) + g[next]);
+                }
+            }
+            rhs[cell] = best;
+        }
+        if (open.contains(cell)) open.remove(cell);
+        if (g[cell] != rhs[cell]) open.insert(cell, key(cell));
+    }
+
+    /**
+     * orders queued cells by min(g, rhs) + h + km, then by min(g, rhs).
+     */
+    private long key(int cell) {
+        int best = Math.min(g[cell], rhs[cell]);
+        if (best == INFINITY) return Long.MAX_VALUE;
+        long first = (long) best + heuristic(lastStart, cell) + km;
+        return (first << 32) | best;
+    }
+
+    /**
+     * octile distance between two cells under the move costs.
+     */
+    private int heuristic(int from, int to) {
+        return SearchableMaze.octile(Math.abs(from / cols - to / cols), Math.abs(from % cols - to % cols),
+                straightCost, diagonalCost);
+    }
+
+    /**
+     * @return the cell reached by move d from a cell, or -1 if the move isn't allowed
+     */
+    private int neighbor(int cell, int d) {
+        int row = cell / cols;
+        int col = cell % cols;
+        int newRow = row + SearchableMaze.ROW_STEPS[d];
+        int newCol = col + SearchableMaze.COL_STEPS[d];
+        if (!isWalkable(row, col) || !isWalkable(newRow, newCol)) return -1;
+        if (d >= 4 && (!isWalkable(newRow, col) || !isWalkable(row, newCol))) return -1;
+        return newRow * cols + newCol;
+    }
+
+    private int moveCost(int d) {
+        return d < 4 ? straightCost : diagonalCost;
+    }
+
+    private boolean isWalkable(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return false;
+        int index = row * cols + col;
+        return (walkable[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int indexOf(Position position) {
+        return position.getRowIndex() * maze.getColumns() + position.getColumnIndex();
+    }
+
+    private MazeState stateOf(int cell) {
+        return new MazeState(new Position(cell / cols, cell % cols));
+    }
+}
@@ -0,0 +1,57 @@
+package algorithms.search;
+
+/**
+ * dead-end filling: repeatedly turns cells with at most one move into walls, except the start
+ * and the goal, until none are left.
+ * a shortest path never enters a dead end, so every shortest path of the maze survives, and in a
+ * perfect maze only the solution corridor remains.
+ * runs in linear time with an int[] work queue of the cells that became dead ends.
+ */
+final class DeadEndFilling {
+
+    private DeadEndFilling() {
+    }
+
+    /**
+     * fills the dead ends of a maze.
+     *
+     * @param maze the maze to prune
+     * @return a copy of the maze with its dead ends turned into walls
+     */
+    static SearchableMaze prune(SearchableMaze maze) {
+        int cellCount = maze.getCellCount();
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+        int[] degree = new int[cellCount];
+        int[] queue = new int[cellCount];
+        long[] removed = new long[(cellCount + 63) >>> 6];
+        int[] successors = new int[8];
+        int head = 0;
+        int tail = 0;
+
+        for (int index = 0; index < cellCount; index++) {
+            if (maze.getState(index) == null) continue;
+            degree[index] = Integer.bitCount(maze.getNeighborMask(index));
+            if (degree[index] <= 1 && index != startIndex && index != goalIndex) {
+                removed[index >>> 6] |= 1L << index;
+                queue[tail++] = index;
+            }
+        }
+
+        // filling a dead end takes one move away from each of its neighbors
+        while (head < tail) {
+            int current = queue[head++];
+            int count = maze.getSuccessorIndices(current, successors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = successors[i];
+                if ((removed[neighbor >>> 6] & (1L << neighbor)) != 0) continue;
+                if (--degree[neighbor] <= 1 && neighbor != startIndex && neighbor != goalIndex) {
+                    removed[neighbor >>> 6] |= 1L << neighbor;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return new SearchableMaze(maze, removed);
+    }
+}
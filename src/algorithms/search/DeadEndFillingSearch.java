@@ -0,0 +1,59 @@
+package algorithms.search;
+
+/**
+ * runs another searching algorithm on a maze whose dead ends were filled first.
+ * the fill is linear in the number of cells and keeps every shortest path, so a shortest-path
+ * algorithm stays optimal while it only sees the cells that can still be on a path.
+ * without an inner algorithm the pruned maze is searched with FlatBreadthFirstSearch.
+ * only the nodes evaluated by the inner algorithm are counted.
+ * problems that are not a SearchableMaze are passed to the inner algorithm unchanged.
+ */
+public class DeadEndFillingSearch extends ASearchingAlgorithm {
+    private final ISearchingAlgorithm inner;
+
+    /**
+     * creates a dead-end filling search that runs a flat bfs on the pruned maze.
+     */
+    public DeadEndFillingSearch() {
+        this(new FlatBreadthFirstSearch());
+    }
+
+    /**
+     * creates a dead-end filling search on top of another algorithm.
+     *
+     * @param inner the algorithm that searches the pruned maze
+     */
+    public DeadEndFillingSearch(ISearchingAlgorithm inner) {
+        this.inner = inner;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Dead End Filling + " + inner.getName();
+    }
+
+    /**
+     * fills the dead ends of the maze and solves what is left with the inner algorithm.
+     *
+     * @param domain the problem to solve
+     * @return the solution found by the inner algorithm
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        ISearchable pruned = domain;
+        if (domain instanceof SearchableMaze) {
+            SearchableMaze maze = (SearchableMaze) domain;
+            if (maze.getStartState() == null || maze.getGoalState() == null) {
+                return new Solution(null); // start or goal is a wall
+            }
+            pruned = DeadEndFilling.prune(maze);
+        }
+
+        return delegate(inner, pruned);
+    }
+}
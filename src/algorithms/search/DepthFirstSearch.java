@@ -24,39 +24,65 @@ public class DepthFirstSearch extends ASearchingAlgorithm {
      * @return solution from start to goal if found, otherwise empty
      */
     @Override
-    public Solution solve(ISearchable domain) {
-        if (domain == null) return null;
-
+    protected Solution search(ISearchable domain) {
         AState start = domain.getStartState();
         AState goal = domain.getGoalState();
 
-        Stack<AState> stack = new Stack<>();
-        Set<AState> visited = new HashSet<>();
-
-        start.setCost(0);
-        stack.push(start);
+        SearchContext context = SearchContext.acquire(0);
+        try {
+            Stack<AState> stack = new Stack<>();
+            Map<AState, AState> cameFrom = context.cameFrom; // every state seen so far, visited or stacked
+            NeighborVisitor visitor = new NeighborVisitor(stack, cameFrom);
 
-        while (!stack.isEmpty()) {
-            AState current = stack.pop();
-            visitedNodes++;
-            visited.add(current);
+            cameFrom.put(start, null);
+            stack.push(start);
 
-            // goal reached
-            if (current.equals(goal)) {
-                return new Solution(current);
-            }
+            while (!stack.isEmpty()) {
+                AState current = stack.pop();
+                visitedNodes++;
+                checkCancelled();
 
-            // explore neighbors
-            for (AState neighbor : domain.getAllPossibleStates(current)) {
-                if (!visited.contains(neighbor) && !stack.contains(neighbor)) {
-                    neighbor.setCameFrom(current);
-                    neighbor.setCost(current.getCost() + 1);
-                    stack.push(neighbor);
+                // goal reached
+                if (current.equals(goal)) {
+                    return Solution.fromParents(current, cameFrom);
                 }
+
+                // explore neighbors
+                int seen = cameFrom.size();
+                visitor.current = current;
+                domain.forEachPossibleState(current, visitor);
+                generatedNodes += cameFrom.size() - seen;
+                recordFrontier(stack.size());
+                recordClosed(cameFrom.size());
             }
+
+            // no path found
+            return new Solution(null);
+        } finally {
+            context.release();
         }
+    }
 
-        // no path found
-        return new Solution(null);
+    /**
+     * pushes the neighbors of the current state that were not seen yet.
+     * one instance is reused for the whole search, so expanding a state creates no lists.
+     */
+    private static class NeighborVisitor implements IStateVisitor {
+        private final Stack<AState> stack;
+        private final Map<AState, AState> cameFrom;
+        private AState current;
+
+        NeighborVisitor(Stack<AState> stack, Map<AState, AState> cameFrom) {
+            this.stack = stack;
+            this.cameFrom = cameFrom;
+        }
+
+        @Override
+        public void visit(AState neighbor) {
+            if (!cameFrom.containsKey(neighbor)) {
+                cameFrom.put(neighbor, current);
+                stack.push(neighbor);
+            }
+        }
     }
 }
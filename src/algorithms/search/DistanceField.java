@@ -0,0 +1,127 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * bfs distances from every cell of a maze to one goal cell, stored compactly.
+ * neighboring cells are at most one step apart in distance, so keeping the distance modulo 3
+ * is enough to tell which neighbor is one step closer to the goal.
+ * every cell takes 2 bits: 0, 1 or 2 for the distance modulo 3, and 3 if the goal can't be reached.
+ * once built, a shortest path from any start is read by walking downhill, in O(path length).
+ */
+final class DistanceField {
+    private static final int UNREACHABLE = 3;
+
+    private final int goalIndex;
+    private final long[] codes; // 32 cells per long, 2 bits each
+    private final int reachedCells;
+
+    /**
+     * runs a bfs backwards from the goal over the whole maze.
+     * moves in a SearchableMaze are symmetric, so the backward search uses the regular successors.
+     *
+     * @param maze the maze
+     * @param goalIndex flat index of the goal cell
+     */
+    DistanceField(SearchableMaze maze, int goalIndex) {
+        this.goalIndex = goalIndex;
+        codes = new long[(maze.getCellCount() + 31) >>> 5];
+        Arrays.fill(codes, -1L); // every cell starts as unreachable
+
+        SearchContext context = SearchContext.acquire(0);
+        try {
+            IntRingBuffer queue = context.queue;
+            int[] successors = new int[8];
+            int reached = 1;
+
+            setCode(goalIndex, 0);
+            queue.add(goalIndex);
+
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                int nextCode = (code(current) + 1) % 3;
+                int count = maze.getSuccessorIndices(current, successors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = successors[i];
+                    if (code(neighbor) == UNREACHABLE) {
+                        setCode(neighbor, nextCode);
+                        queue.add(neighbor);
+                        reached++;
+                    }
+                }
+            }
+            reachedCells = reached;
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * @return bytes taken by the codes of the field
+     */
+    long memoryBytes() {
+        return 8L * codes.length;
+    }
+
+    /**
+     * @return how many cells can reach the goal, the goal included
+     */
+    int getReachedCells() {
+        return reachedCells;
+    }
+
+    /**
+     * @param index flat index of a cell
+     * @return true if the goal can be reached from the cell
+     */
+    boolean reaches(int index) {
+        return code(index) != UNREACHABLE;
+    }
+
+    /**
+     * reads a shortest path from a start cell to the goal by always stepping
+     * to a neighbor whose distance is one less.
+     *
+     * @param maze the maze the field was built for
+     * @param startIndex flat index of the start cell
+     * @return the solution from start to goal, empty if the goal can't be reached
+     */
+    Solution solutionFrom(SearchableMaze maze, int startIndex) {
+        if (!reaches(startIndex)) return new Solution(null);
+
+        List<AState> path = new ArrayList<>();
+        int[] successors = new int[8];
+        int current = startIndex;
+        path.add(maze.getState(current));
+
+        while (current != goalIndex) {
+            int downhill = (code(current) + 2) % 3; // distance - 1, modulo 3
+            int count = maze.getSuccessorIndices(current, successors);
+            for (int i = 0; i < count; i++) {
+                if (code(successors[i]) == downhill) {
+                    current = successors[i];
+                    break;
+                }
+            }
+            path.add(maze.getState(current));
+        }
+        return Solution.fromPath(path, null);
+    }
+
+    /**
+     * @return the 2 bit code of a cell
+     */
+    private int code(int index) {
+        return (int) (codes[index >>> 5] >>> ((index & 31) << 1)) & 3;
+    }
+
+    /**
+     * stores the 2 bit code of a cell.
+     */
+    private void setCode(int index, int code) {
+        int shift = (index & 31) << 1;
+        codes[index >>> 5] = (codes[index >>> 5] & ~(3L << shift)) | ((long) code << shift);
+    }
+}
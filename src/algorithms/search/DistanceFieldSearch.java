@@ -0,0 +1,87 @@
+package algorithms.search;
+
+import java.util.Objects;
+
+/**
+ * solves mazes from a cached bfs distance field rooted at the goal.
+ * the first solve of a maze runs one backward bfs from the goal over the whole maze;
+ * every later solve of a maze with the same walls and goal, from any start,
+ * only walks downhill along the path, which costs O(path length).
+ * fields are cached by maze content (see MazeFingerprint) and goal, for the most recent mazes,
+ * in a cache limited in bytes. a field larger than the whole cache is used for its solve only.
+ */
+public class DistanceFieldSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    // bytes of distance fields kept in the cache, each takes 2 bits per maze cell
+    private static final long CACHE_BYTES = 64L << 20;
+    private static final LruCache<FieldKey, DistanceField> CACHE =
+            new LruCache<>(CACHE_BYTES, DistanceField::memoryBytes);
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Distance Field Search";
+    }
+
+    /**
+     * solves a searchable problem by walking down the distance field of its goal,
+     * building and caching the field first if needed.
+     *
+     * @param domain the problem to solve
+     * @return a shortest solution from start to goal, or empty if there is none
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        FieldKey key = new FieldKey(maze.getFingerprint(), maze.getGoalIndex());
+        DistanceField field = CACHE.get(key);
+        if (field == null) {
+            field = new DistanceField(maze, maze.getGoalIndex());
+            CACHE.put(key, field);
+            visitedNodes += field.getReachedCells();
+            generatedNodes += field.getReachedCells();
+            recordClosed(field.getReachedCells());
+        }
+
+        Solution solution = field.solutionFrom(maze, maze.getStartIndex());
+        visitedNodes += solution.getSolutionPath().size();
+        return solution;
+    }
+
+    /**
+     * cache key: the maze content and the goal cell the field is rooted at.
+     */
+    private static final class FieldKey {
+        private final MazeFingerprint fingerprint;
+        private final int goalIndex;
+
+        FieldKey(MazeFingerprint fingerprint, int goalIndex) {
+            this.fingerprint = fingerprint;
+            this.goalIndex = goalIndex;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof FieldKey)) return false;
+            FieldKey other = (FieldKey) obj;
+            return goalIndex == other.goalIndex && fingerprint.equals(other.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, goalIndex);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Position;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * breadth first search for mazes larger than the heap.
+ * reads the maze from a memory mapped MazeFile, keeps the visited set in a memory mapped
+ * bit file and appends every bfs level to a file of cell indices, so only buffers and the
+ * level offsets stay in the heap. once the goal is reached the path is rebuilt by a backward
+ * pass over the stored levels: for every level, the first cell that is a neighbor of the cell
+ * found for the level above.
+ * the moves are the same as in SearchableMaze. a SearchableMaze passed to solve is first written
+ * to a temporary maze file, a file given to solveFile is read in place. both go through solve, so
+ * they get the same statistics and cancellation. all work files are unmapped and deleted when the
+ * search ends, or when the jvm exits if the system doesn't let them go sooner.
+ */
+public class ExternalMemoryBreadthFirstSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final File workDirectory;
+
+    /**
+     * creates a search that keeps its work files in the system temp directory.
+     */
+    public ExternalMemoryBreadthFirstSearch() {
+        this(new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * creates a search that keeps its work files in a given directory.
+     *
+     * @param workDirectory directory for the level and visited files
+     */
+    public ExternalMemoryBreadthFirstSearch(File workDirectory) {
+        this.workDirectory = workDirectory;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "External Memory Breadth First Search";
+    }
+
+    /**
+     * solves a searchable problem, writing a SearchableMaze to a maze file first.
+     *
+     * @param domain the problem to solve
+     * @return a shortest solution from start to goal (or empty if no path)
+     * @throws UncheckedIOException if the work files can't be written
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        try {
+            if (domain instanceof SearchableGrid) {
+                return search(((SearchableGrid) domain).getGrid());
+            }
+            if (!(domain instanceof SearchableMaze)) {
+                return delegate(new BreadthFirstSearch(), domain);
+            }
+
+            SearchableMaze maze = (SearchableMaze) domain;
+            if (maze.getStartState() == null || maze.getGoalState() == null) {
+                return new Solution(null); // start or goal is a wall
+            }
+
+            File mazeFile = File.createTempFile("maze", ".maze", workDirectory);
+            try {
+                MazeFile.write(maze, mazeFile);
+                try (MazeFile file = new MazeFile(mazeFile)) {
+                    return search(file);
+                }
+            } finally {
+                MappedFiles.delete(mazeFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * the visited set lives on disk, so the maze must not be labeled in memory first.
+     */
+    @Override
+    protected boolean checksReachability() {
+        return false;
+    }
+
+    /**
+     * solves a maze stored in the maze file format, reading its walls from the file.
+     *
+     * @param mazeFile the maze
+     * @return a shortest solution from start to goal (or empty if no path)
+     * @throws IOException if the maze or the work files can't be read or written
+     */
+    public Solution solveFile(File mazeFile) throws IOException {
+        return solveFile(mazeFile, null);
+    }
+
+    /**
+     * solves a maze stored in the maze file format unless the solve is stopped first.
+     *
+     * @param mazeFile the maze
+     * @param token token that can stop the solve, or null
+     * @return a shortest solution from start to goal (or empty if no path, timed out if stopped)
+     * @throws IOException if the maze or the work files can't be read or written
+     */
+    public Solution solveFile(File mazeFile, CancellationToken token) throws IOException {
+        try (MazeFile maze = new MazeFile(mazeFile)) {
+            return solve(new SearchableGrid(maze), token);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * runs the bfs over a maze read through a MazeGrid, with its work files in a new directory.
+     */
+    private Solution search(MazeGrid maze) throws IOException {
+        Position start = maze.getStartPosition();
+        Position goal = maze.getGoalPosition();
+        if (!maze.isWalkable(start.getRowIndex(), start.getColumnIndex())
+                || !maze.isWalkable(goal.getRowIndex(), goal.getColumnIndex())) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        long cols = maze.getColumns();
+        long startIndex = start.getRowIndex() * cols + start.getColumnIndex();
+        long goalIndex = goal.getRowIndex() * cols + goal.getColumnIndex();
+        // levels are appended to one file, level i holds the cells in [levelEnds[i - 1], levelEnds[i])
+        long[] levelEnds = new long[16];
+        int levelCount;
+
+        File directory = Files.createTempDirectory(workDirectory.toPath(), "bfs").toFile();
+        File visitedFile = new File(directory, "visited.bits");
+        File levelsFile = new File(directory, "levels.bin");
+        // the resources are closed, and so unmapped, before the finally block deletes their files
+        try (MappedBitSet visited = new MappedBitSet(visitedFile, (long) maze.getRows() * cols);
+             FileOutputStream file = new FileOutputStream(levelsFile);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, BUFFER_SIZE));
+             LevelReader in = new LevelReader(levelsFile)) {
+            out.writeLong(startIndex);
+            out.flush();
+            visited.set(startIndex);
+            levelEnds[0] = 1;
+            levelCount = 1;
+
+            boolean found = startIndex == goalIndex;
+            while (!found) {
+                long written = 0;
+                in.seek(levelCount == 1 ? 0 : levelEnds[levelCount - 2], levelEnds[levelCount - 1]);
+                for (long cell = in.next(); cell != -1 && !found; cell = in.next()) {
+                    visitedNodes++;
+                    checkCancelled();
+                    int row = (int) (cell / cols);
+                    int col = (int) (cell % cols);
+                    for (int d = 0; d < 8; d++) {
+                        int newRow = row + SearchableMaze.ROW_STEPS[d];
+                        int newCol = col + SearchableMaze.COL_STEPS[d];
+                        if (!SearchableGrid.canMove(maze, row, col, newRow, newCol)) continue;
+                        long neighbor = newRow * cols + newCol;
+                        if (visited.get(neighbor)) continue;
+                        visited.set(neighbor);
+                        out.writeLong(neighbor);
+                        written++;
+                        if (neighbor == goalIndex) found = true;
+                    }
+                }
+                out.flush();
+                generatedNodes += written;
+                recordFrontier(written);
+                recordClosed(levelEnds[levelCount - 1] + written);
+                if (written == 0) {
+                    return new Solution(null); // no path found
+                }
+                if (levelCount == levelEnds.length) {
+                    levelEnds = Arrays.copyOf(levelEnds, levelCount * 2);
+                }
+                levelEnds[levelCount] = levelEnds[levelCount - 1] + written;
+                levelCount++;
+            }
+
+            return walkBack(maze, in, levelEnds, levelCount, goalIndex);
+        } finally {
+            MappedFiles.delete(visitedFile, levelsFile, directory);
+        }
+    }
+
+    /**
+     * rebuilds the path from the goal, which is in the last level, back to the start in level 0.
+     */
+    private Solution walkBack(MazeGrid maze, LevelReader in, long[] levelEnds, int levelCount, long goalIndex)
+            throws IOException {
+        long cols = maze.getColumns();
+        long[] cells = new long[levelCount];
+        cells[levelCount - 1] = goalIndex;
+
+        for (int level = levelCount - 2; level >= 0; level--) {
+            int row = (int) (cells[level + 1] / cols);
+            int col = (int) (cells[level + 1] % cols);
+            in.seek(level == 0 ? 0 : levelEnds[level - 1], levelEnds[level]);
+            for (long cell = in.next(); cell != -1; cell = in.next()) {
+                int cellRow = (int) (cell / cols);
+                int cellCol = (int) (cell % cols);
+                // cells of the level below that aren't next to the found cell can't lead to it
+                if (Math.abs(cellRow - row) <= 1 && Math.abs(cellCol - col) <= 1
+                        && SearchableGrid.canMove(maze, cellRow, cellCol, row, col)) {
+                    cells[level] = cell;
+                    break;
+                }
+            }
+        }
+
+        List<AState> path = new ArrayList<>(levelCount);
+        for (long cell : cells) {
+            path.add(new MazeState(new Position((int) (cell / cols), (int) (cell % cols))));
+        }
+        return Solution.fromPath(path, null);
+    }
+
+    /**
+     * reads a range of cells of the level file through a buffer.
+     */
+    private static final class LevelReader implements Closeable {
+        private final RandomAccessFile file;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long position; // file offset of the next unread byte
+        private long end;      // file offset where the range ends
+
+        LevelReader(File path) throws IOException {
+            file = new RandomAccessFile(path, "r");
+        }
+
+        /**
+         * starts reading the cells in [from, to), counted in cells.
+         */
+        void seek(long from, long to) {
+            position = from * Long.BYTES;
+            end = to * Long.BYTES;
+            buffer.clear().flip(); // empty
+        }
+
+        /**
+         * @return the next cell of the range, or -1 at its end
+         */
+        long next() throws IOException {
+            if (!buffer.hasRemaining()) {
+                if (position >= end) return -1;
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+                while (buffer.hasRemaining()) {
+                    if (file.getChannel().read(buffer, position + buffer.position()) < 0) {
+                        throw new EOFException("level file ended early");
+                    }
+                }
+                position += buffer.limit();
+                buffer.flip();
+            }
+            return buffer.getLong();
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package algorithms.search;
+
+/**
+ * breadth first search that works directly on the maze grid as a flat int index space
+ * (index = row * columns + col) instead of on MazeState objects.
+ * uses an int ring buffer queue, a long[] bitset for visited cells and an int[] parent array,
+ * so every cell costs a few bits and bytes and all checks are O(1).
+ */
+public class FlatBreadthFirstSearch extends ASearchingAlgorithm {
+
+    /**
+     * returns the algorithm name.
+     *
+     * @return name string
+     */
+    @Override
+    public String getName() {
+        return "Flat Breadth First Search";
+    }
+
+    /**
+     * solves the given searchable problem using bfs over flat cell indices.
+     *
+     * @param domain the searchable problem
+     * @return a solution from start to goal (or empty if no path)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+
+        SearchContext context = SearchContext.acquire(maze.getCellCount());
+        try {
+            int[] parent = context.parent;
+            long[] visited = context.visited;
+            IntRingBuffer queue = context.queue;
+            int[] successors = new int[8];
+
+            parent[startIndex] = -1;
+            visited[startIndex >>> 6] |= 1L << startIndex;
+            queue.add(startIndex);
+
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                visitedNodes++;
+                checkCancelled();
+
+                // if we reached the goal
+                if (current == goalIndex) {
+                    return maze.buildSolution(parent, goalIndex, null);
+                }
+
+                // check neighbors
+                int count = maze.getSuccessorIndices(current, successors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = successors[i];
+                    long bit = 1L << neighbor;
+                    if ((visited[neighbor >>> 6] & bit) == 0) {
+                        visited[neighbor >>> 6] |= bit;
+                        parent[neighbor] = current;
+                        queue.add(neighbor);
+                        generatedNodes++;
+                    }
+                }
+                recordFrontier(queue.size());
+                recordClosed(generatedNodes + 1);
+            }
+
+            // no path found
+            return new Solution(null);
+        } finally {
+            context.release();
+        }
+    }
+}
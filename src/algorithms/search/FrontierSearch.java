@@ -0,0 +1,314 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.Position;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * memory bounded breadth first search for mazes too large for a per cell parent array.
+ * keeps only the previous, current and next bfs layers: in a maze every move can be taken back,
+ * so a neighbor of the current layer that is in neither the previous nor the current layer is new.
+ * without parents the path is rebuilt by divide and conquer: a second sweep remembers, for every
+ * cell, its ancestor in the middle layer, which gives a middle cell of a shortest path, and both
+ * halves are solved the same way. short halves are finished with a small bfs that keeps parents.
+ * the working memory grows with the widest layer, not with the maze, and is checked against a
+ * budget as the layers grow. a solve whose layers don't fit stops right there and returns an empty
+ * solution marked as timed out, like a solve that ran out of time.
+ * when a plain bfs over a SearchableMaze fits in the budget, FlatBreadthFirstSearch is used.
+ * a SearchableMaze already holds a state per walkable cell, so mazes too large for that are passed
+ * with solveMaze or solveFile, which read the walls straight from the Maze or the maze file.
+ * the reachability check is never run, its labels would take memory for every cell.
+ */
+public class FrontierSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    // memory budget when none is given
+    private static final long DEFAULT_BUDGET = 256L << 20;
+    // halves this short are solved with a bfs that keeps parents
+    private static final int DIRECT_DEPTH = 64;
+
+    private final long memoryBudget;
+
+    /**
+     * creates a frontier search with the default memory budget.
+     */
+    public FrontierSearch() {
+        this(DEFAULT_BUDGET);
+    }
+
+    /**
+     * creates a frontier search.
+     *
+     * @param memoryBudget bytes the search may use for its layers
+     */
+    public FrontierSearch(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Frontier Search";
+    }
+
+    /**
+     * solves a searchable problem within the memory budget.
+     *
+     * @param domain the problem to solve
+     * @return a shortest solution from start to goal (or empty if no path, timed out if the budget ran out)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (domain instanceof SearchableGrid) {
+            return search(((SearchableGrid) domain).getGrid());
+        }
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        // a parent and a queue slot per cell, plus the visited bits
+        long flatBytes = 8L * maze.getCellCount() + maze.getCellCount() / 8;
+        if (flatBytes <= memoryBudget) {
+            return delegate(new FlatBreadthFirstSearch(), maze);
+        }
+        return search(maze::getSuccessorIndices, maze.getColumns(), maze.getStartIndex(), maze.getGoalIndex());
+    }
+
+    /**
+     * solves a maze without building a SearchableMaze for it.
+     *
+     * @param maze the maze to solve
+     * @return a shortest solution from start to goal (or empty if no path, timed out if the budget ran out)
+     * @throws IllegalArgumentException if the maze has more than Integer.MAX_VALUE cells
+     */
+    public Solution solveMaze(Maze maze) {
+        return solve(new SearchableGrid(MazeGrid.of(maze)));
+    }
+
+    /**
+     * solves a maze stored in the maze file format, reading its walls from the file.
+     *
+     * @param mazeFile the maze
+     * @return a shortest solution from start to goal (or empty if no path, timed out if the budget ran out)
+     * @throws IOException if the maze file can't be read
+     * @throws IllegalArgumentException if the maze has more than Integer.MAX_VALUE cells
+     */
+    public Solution solveFile(File mazeFile) throws IOException {
+        try (MazeFile maze = new MazeFile(mazeFile)) {
+            return solve(new SearchableGrid(maze));
+        }
+    }
+
+    /**
+     * memory bounded solves must not label every cell first.
+     */
+    @Override
+    protected boolean checksReachability() {
+        return false;
+    }
+
+    /**
+     * solves a maze read through a MazeGrid, finding the moves of a cell from its neighbors.
+     */
+    private Solution search(MazeGrid grid) {
+        Position start = grid.getStartPosition();
+        Position goal = grid.getGoalPosition();
+        if (!grid.isWalkable(start.getRowIndex(), start.getColumnIndex())
+                || !grid.isWalkable(goal.getRowIndex(), goal.getColumnIndex())) {
+            return new Solution(null); // start or goal is a wall
+        }
+        int cols = grid.getColumns();
+        if ((long) grid.getRows() * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("frontier search handles at most " + Integer.MAX_VALUE + " cells");
+        }
+
+        Moves moves = (cell, out) -> {
+            int row = cell / cols;
+            int col = cell % cols;
+            int count = 0;
+            for (int d = 0; d < 8; d++) {
+                int newRow = row + SearchableMaze.ROW_STEPS[d];
+                int newCol = col + SearchableMaze.COL_STEPS[d];
+                if (SearchableGrid.canMove(grid, row, col, newRow, newCol)) {
+                    out[count++] = newRow * cols + newCol;
+                }
+            }
+            return count;
+        };
+        return search(moves, cols, start.getRowIndex() * cols + start.getColumnIndex(),
+                goal.getRowIndex() * cols + goal.getColumnIndex());
+    }
+
+    /**
+     * finds the length of a shortest path with one sweep, then fills its cells by divide and conquer.
+     *
+     * @param moves the moves of every cell
+     * @param cols number of columns, to turn cells back into positions
+     * @param startIndex flat index of the start cell
+     * @param goalIndex flat index of the goal cell
+     * @return a shortest solution from start to goal (or empty if no path)
+     */
+    private Solution search(Moves moves, int cols, int startIndex, int goalIndex) {
+        int depth = sweep(moves, startIndex, goalIndex, -1);
+        if (depth == -1) {
+            return new Solution(null);
+        }
+
+        int[] cells = new int[depth + 1];
+        cells[0] = startIndex;
+        cells[depth] = goalIndex;
+        fill(moves, cells, 0, depth);
+
+        List<AState> path = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            path.add(new MazeState(new Position(cell / cols, cell % cols)));
+        }
+        return Solution.fromPath(path, null);
+    }
+
+    /**
+     * fills the cells of a shortest path between two cells already in place.
+     *
+     * @param moves the moves of every cell
+     * @param cells the path, with cells[from] and cells[to] set
+     * @param from position of the first cell, at distance to - from of the last one
+     * @param to position of the last cell
+     */
+    private void fill(Moves moves, int[] cells, int from, int to) {
+        int length = to - from;
+        if (length <= 1) return;
+        if (length <= DIRECT_DEPTH) {
+            fillDirect(moves, cells, from, to);
+            return;
+        }
+
+        int middle = from + length / 2;
+        cells[middle] = sweep(moves, cells[from], cells[to], length / 2);
+        fill(moves, cells, from, middle);
+        fill(moves, cells, middle, to);
+    }
+
+    /**
+     * layer by layer bfs from source until target is reached.
+     *
+     * @param moves the moves of every cell
+     * @param source the cell to start from
+     * @param target the cell to find
+     * @param relayDepth the layer whose cells are remembered as ancestors, or -1
+     * @return the depth of target if relayDepth is -1, otherwise its ancestor in layer relayDepth;
+     *         -1 if target can't be reached
+     * @throws SearchStoppedException as soon as the layers need more than the memory budget
+     */
+    private int sweep(Moves moves, int source, int target, int relayDepth) {
+        IntIntHashMap previous = new IntIntHashMap(16);
+        IntIntHashMap current = new IntIntHashMap(16);
+        IntIntHashMap next = new IntIntHashMap(16);
+        int[] successors = new int[8];
+
+        current.putIfAbsent(source, relayDepth == 0 ? source : -1);
+        for (int depth = 0; !current.isEmpty(); depth++) {
+            if (current.containsKey(target)) {
+                return relayDepth == -1 ? depth : current.get(target);
+            }
+
+            // only next grows during a layer, so it is the only map looked at again after an insert
+            long kept = previous.memoryBytes() + current.memoryBytes();
+            checkBudget(kept + next.memoryBytes());
+
+            for (int slot = 0; slot < current.slots(); slot++) {
+                int cell = current.keyAt(slot);
+                if (cell == -1) continue;
+                visitedNodes++;
+                checkCancelled();
+                int relay = current.valueAt(slot);
+                int count = moves.of(cell, successors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = successors[i];
+                    if (previous.containsKey(neighbor) || current.containsKey(neighbor)) continue;
+                    if (next.putIfAbsent(neighbor, depth + 1 == relayDepth ? neighbor : relay)) {
+                        generatedNodes++;
+                        checkBudget(kept + next.memoryBytes());
+                    }
+                }
+            }
+            recordFrontier(next.size());
+            recordClosed(previous.size() + current.size());
+
+            // the previous layer is dropped and its map is reused for the one after next
+            IntIntHashMap swap = previous;
+            previous = current;
+            current = next;
+            next = swap;
+            next.clear();
+        }
+        return -1;
+    }
+
+    /**
+     * stops the solve once the layers use more memory than the budget.
+     */
+    private void checkBudget(long used) {
+        if (used > memoryBudget) {
+            throw new SearchStoppedException(); // solve returns an empty, timed out solution
+        }
+    }
+
+    /**
+     * fills a short part of the path with a bfs that keeps the parent of every reached cell.
+     * the bfs never goes further than the length of the part, so it stays small.
+     */
+    private void fillDirect(Moves moves, int[] cells, int from, int to) {
+        int source = cells[from];
+        int target = cells[to];
+        IntIntHashMap parent = new IntIntHashMap(64);
+        IntRingBuffer queue = new IntRingBuffer(64);
+        int[] successors = new int[8];
+
+        parent.putIfAbsent(source, -1);
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            visitedNodes++;
+            checkCancelled();
+            if (cell == target) break;
+            int count = moves.of(cell, successors);
+            for (int i = 0; i < count; i++) {
+                if (parent.putIfAbsent(successors[i], cell)) {
+                    queue.add(successors[i]);
+                    generatedNodes++;
+                }
+            }
+            recordFrontier(queue.size());
+            recordClosed(parent.size());
+        }
+
+        int cell = target;
+        for (int position = to - 1; position > from; position--) {
+            cell = parent.get(cell);
+            cells[position] = cell;
+        }
+    }
+
+    /**
+     * the moves of a cell, as flat indices.
+     */
+    private interface Moves {
+        /**
+         * @param cell flat index of a cell
+         * @param out array of at least 8 slots that receives the neighbor indices
+         * @return number of neighbors written
+         */
+        int of(int cell, int[] out);
+    }
+}
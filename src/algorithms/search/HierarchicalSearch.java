@@ -0,0 +1,233 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * hierarchical path finding (hpa*) for large mazes that are solved many times.
+ * the maze is split into square clusters and turned into a small ClusterGraph of border
+ * transitions, which is cached per maze content. a query links the start and goal to the nodes
+ * of their own clusters, runs a* on the abstract graph, and then refines only the clusters
+ * the abstract path goes through with a bfs that stays inside each cluster.
+ * the path is valid but not always the shortest one.
+ */
+public class HierarchicalSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    // side length of a cluster when none is given
+    private static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private final int clusterSize;
+
+    /**
+     * creates a hierarchical search with the default cluster size.
+     */
+    public HierarchicalSearch() {
+        this(DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * creates a hierarchical search.
+     *
+     * @param clusterSize side length of a cluster, in cells
+     */
+    public HierarchicalSearch(int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("cluster size must be at least 2");
+        }
+        this.clusterSize = clusterSize;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Hierarchical Search";
+    }
+
+    /**
+     * solves a searchable problem on the abstract graph of its maze.
+     *
+     * @param domain the problem to solve
+     * @return a solution object (a path from start to goal, or empty if there is none)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        ClusterGraph graph = ClusterGraph.of(maze, clusterSize);
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+        int nodeCount = graph.getNodeCount();
+        int localCells = clusterSize * clusterSize;
+        int[] dist = new int[localCells];
+        int[] localParent = new int[localCells];
+
+        // link the start to the nodes of its cluster
+        visitedNodes += graph.searchCluster(maze, startIndex, -1, dist, localParent);
+        int direct = graph.clusterOf(startIndex) == graph.clusterOf(goalIndex) ? dist[graph.localIndex(goalIndex)] : -1;
+        List<int[]> startEdges = new ArrayList<>();
+        for (int node : graph.nodesIn(graph.clusterOf(startIndex))) {
+            int d = dist[graph.localIndex(graph.cellOf(node))];
+            if (d >= 0) {
+                startEdges.add(new int[]{ node, d });
+            }
+        }
+
+        // and the nodes of the goal's cluster to the goal
+        visitedNodes += graph.searchCluster(maze, goalIndex, -1, dist, localParent);
+        int[] toGoal = new int[nodeCount];
+        Arrays.fill(toGoal, -1);
+        for (int node : graph.nodesIn(graph.clusterOf(goalIndex))) {
+            toGoal[node] = dist[graph.localIndex(graph.cellOf(node))];
+        }
+
+        int[] route = searchAbstract(maze, graph, startIndex, goalIndex, startEdges, toGoal, direct);
+        if (route == null) {
+            return new Solution(null);
+        }
+        return refine(maze, graph, route, dist, localParent);
+    }
+
+    /**
+     * runs a* on the abstract graph with the start and goal added as two extra nodes.
+     *
+     * @param maze the maze
+     * @param graph the abstract graph
+     * @param startIndex the start cell
+     * @param goalIndex the goal cell
+     * @param startEdges (node, cost) pairs leaving the start
+     * @param toGoal cost from every node to the goal, -1 if it has no such edge
+     * @param direct cost of the path that stays in the start cluster, -1 if there is none
+     * @return the cells the path goes through, from start to goal, or null if there is no path
+     */
+    private int[] searchAbstract(SearchableMaze maze, ClusterGraph graph, int startIndex, int goalIndex,
+                                 List<int[]> startEdges, int[] toGoal, int direct) {
+        int nodeCount = graph.getNodeCount();
+        int start = nodeCount;
+        int goal = nodeCount + 1;
+        int cols = maze.getColumns();
+
+        int[] g = new int[nodeCount + 2];
+        int[] parent = new int[nodeCount + 2];
+        boolean[] closed = new boolean[nodeCount + 2];
+        IndexedMinHeap open = new IndexedMinHeap(nodeCount + 2);
+        Arrays.fill(g, Integer.MAX_VALUE);
+
+        g[start] = 0;
+        parent[start] = -1;
+        open.insert(start, IndexedMinHeap.key(0, SearchableMaze.moveCount(startIndex, goalIndex, cols)));
+        if (direct >= 0) {
+            // the path inside the start cluster competes with the abstract ones
+            g[goal] = direct;
+            parent[goal] = start;
+            open.insert(goal, IndexedMinHeap.key(direct, 0));
+        }
+
+        int queued = open.size(); // heap size after the last poll, to count the new entries
+        while (!open.isEmpty()) {
+            generatedNodes += open.size() - queued;
+            recordFrontier(open.size());
+            recordClosed(visitedNodes);
+            int current = open.poll();
+            queued = open.size();
+            visitedNodes++;
+            checkCancelled();
+            closed[current] = true;
+
+            if (current == goal) {
+                int length = 0;
+                for (int node = goal; node != -1; node = parent[node]) length++;
+                int[] route = new int[length];
+                for (int node = goal; node != -1; node = parent[node]) {
+                    route[--length] = node == start ? startIndex : node == goal ? goalIndex : graph.cellOf(node);
+                }
+                return route;
+            }
+
+            if (current == start) {
+                for (int[] edge : startEdges) {
+                    relax(open, g, parent, closed, current, edge[0], edge[1], graph, goalIndex, cols);
+                }
+                continue;
+            }
+
+            int[] targets = graph.edgeTargets(current);
+            int[] costs = graph.edgeCosts(current);
+            for (int i = 0; i < targets.length; i++) {
+                relax(open, g, parent, closed, current, targets[i], costs[i], graph, goalIndex, cols);
+            }
+            if (toGoal[current] >= 0) {
+                relax(open, g, parent, closed, current, goal, toGoal[current], graph, goalIndex, cols);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * updates a node if it is cheaper to reach through another one.
+     */
+    private static void relax(IndexedMinHeap open, int[] g, int[] parent, boolean[] closed, int from, int to,
+                              int cost, ClusterGraph graph, int goalIndex, int cols) {
+        if (closed[to]) return;
+        int tentative = g[from] + cost;
+        if (tentative >= g[to]) return;
+
+        g[to] = tentative;
+        parent[to] = from;
+        int h = to >= graph.getNodeCount() ? 0 : SearchableMaze.moveCount(graph.cellOf(to), goalIndex, cols);
+        long key = IndexedMinHeap.key(tentative, h);
+        if (open.contains(to)) {
+            open.decreaseKey(to, key);
+        } else {
+            open.insert(to, key);
+        }
+    }
+
+    /**
+     * turns the cells of an abstract path into a cell by cell path.
+     * consecutive cells in different clusters are neighbors across a border,
+     * the rest are joined by a bfs inside their cluster.
+     *
+     * @param maze the maze
+     * @param graph the abstract graph
+     * @param route the cells of the abstract path
+     * @param dist scratch distances of one cluster
+     * @param localParent scratch parents of one cluster
+     * @return the solution
+     */
+    private Solution refine(SearchableMaze maze, ClusterGraph graph, int[] route, int[] dist, int[] localParent) {
+        List<AState> path = new ArrayList<>();
+        path.add(maze.getState(route[0]));
+        int[] segment = new int[dist.length];
+
+        for (int i = 1; i < route.length; i++) {
+            int from = route[i - 1];
+            int to = route[i];
+            if (from == to) continue;
+            if (graph.clusterOf(from) != graph.clusterOf(to)) {
+                path.add(maze.getState(to));
+                continue;
+            }
+
+            visitedNodes += graph.searchCluster(maze, from, to, dist, localParent);
+            int length = 0;
+            for (int local = graph.localIndex(to); localParent[local] != -1; local = localParent[local]) {
+                segment[length++] = local;
+            }
+            while (length > 0) {
+                path.add(maze.getState(graph.cellAt(from, segment[--length])));
+            }
+        }
+        return Solution.fromPath(path, null);
+    }
+}
@@ -0,0 +1,42 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Position;
+
+import java.util.Collection;
+
+/**
+ * interface for path planners that stay bound to one maze and keep their search state between calls.
+ * when a few cells of the maze change, the next plan repairs the old result instead of searching again.
+ */
+public interface IIncrementalPlanner {
+
+    /**
+     * returns the name of the planner.
+     *
+     * @return name of the planner
+     */
+    String getName();
+
+    /**
+     * plans a path from the current start of the maze to its goal.
+     * the first call searches from scratch, later calls look for cells changed since the last call.
+     *
+     * @return a solution from start to goal if one exists
+     */
+    Solution plan();
+
+    /**
+     * plans again after some cells of the maze were changed, without looking at the other cells.
+     *
+     * @param changedCells the cells changed since the last call
+     * @return a solution from the current start to the goal if one exists
+     */
+    Solution replan(Collection<Position> changedCells);
+
+    /**
+     * returns how many states were expanded by the last call.
+     *
+     * @return number of evaluated nodes
+     */
+    int getNumberOfNodesEvaluated();
+}
@@ -0,0 +1,10 @@
+package algorithms.search;
+
+/**
+ * marks a searching algorithm that is used as configured on mazes of any size.
+ * the solve server switches very large mazes to ParallelBreadthFirstSearch, except for algorithms
+ * with this marker: those meant for large mazes themselves, and those whose answer the parallel bfs
+ * can't give, like the cheapest path under move costs.
+ */
+public interface ILargeMazeSearch {
+}
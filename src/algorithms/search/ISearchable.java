@@ -29,4 +29,18 @@ public interface ISearchable {
      * @return list of neighboring states
      */
     List<AState> getAllPossibleStates(AState state);
+
+    /**
+     * passes every valid next step from a given state to a visitor, in the same order as
+     * getAllPossibleStates, without building a list.
+     * the default walks the list from getAllPossibleStates; domains can override it to avoid the list.
+     *
+     * @param state the current state
+     * @param visitor receives each neighboring state
+     */
+    default void forEachPossibleState(AState state, IStateVisitor visitor) {
+        for (AState successor : getAllPossibleStates(state)) {
+            visitor.visit(successor);
+        }
+    }
 }
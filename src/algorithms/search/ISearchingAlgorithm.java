@@ -21,6 +21,19 @@ public interface ISearchingAlgorithm {
      */
     Solution solve(ISearchable domain);
 
+    /**
+     * runs the search on a given searchable domain until it ends or is stopped.
+     * a search stopped by the token, by its deadline or by an interrupt returns a timed out solution.
+     * algorithms that can't be stopped ignore the token and run to the end.
+     *
+     * @param domain the problem to solve
+     * @param token token that can stop the search, or null
+     * @return a solution from start to goal if one was found in time
+     */
+    default Solution solve(ISearchable domain, CancellationToken token) {
+        return solve(domain);
+    }
+
     /**
      * returns how many states were checked during the search.
      *
@@ -0,0 +1,15 @@
+package algorithms.search;
+
+/**
+ * callback that receives the next steps of a state one by one,
+ * used to walk successors without collecting them into a list.
+ */
+public interface IStateVisitor {
+
+    /**
+     * called once for every valid next step.
+     *
+     * @param successor a neighboring state
+     */
+    void visit(AState successor);
+}
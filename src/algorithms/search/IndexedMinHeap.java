@@ -0,0 +1,203 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * binary min heap over int ids in the range [0, capacity) ordered by long keys.
+ * keeps the heap slot of every id, so a queued id can have its key lowered in O(log n)
+ * instead of being added a second time.
+ */
+class IndexedMinHeap {
+    private final int[] heap;      // ids in heap order
+    private final int[] slotOf;    // heap slot of every id, -1 when not queued
+    private final long[] keys;     // key of every id
+    private int size = 0;
+
+    /**
+     * creates an empty heap for ids in [0, capacity).
+     *
+     * @param capacity number of possible ids
+     */
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        slotOf = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(slotOf, -1);
+    }
+
+    /**
+     * packs the f = g + h of an a* search into a key, preferring the larger g on ties,
+     * so cells closer to the goal are expanded first among equally good ones.
+     *
+     * @param g cost to reach the cell
+     * @param h estimated cost from the cell to the goal
+     * @return the key, ordered by f and then by g from large to small
+     */
+    static long key(int g, int h) {
+        return ((long) (g + h) << 32) | (Integer.MAX_VALUE - g);
+    }
+
+    /**
+     * @return true if no ids are queued
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of queued ids
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return number of possible ids
+     */
+    int capacity() {
+        return slotOf.length;
+    }
+
+    /**
+     * removes all queued ids.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            slotOf[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * @param id an id
+     * @return true if the id is currently queued
+     */
+    boolean contains(int id) {
+        return slotOf[id] != -1;
+    }
+
+    /**
+     * @param id a queued id
+     * @return the current key of the id
+     */
+    long keyOf(int id) {
+        return keys[id];
+    }
+
+    /**
+     * returns the id at a heap slot, for going over all queued ids in no particular order.
+     *
+     * @param slot a slot below size()
+     * @return the id queued at that slot
+     */
+    int idAt(int slot) {
+        return heap[slot];
+    }
+
+    /**
+     * adds an id that is not queued yet.
+     *
+     * @param id the id to add
+     * @param key its key
+     */
+    void insert(int id, long key) {
+        keys[id] = key;
+        heap[size] = id;
+        slotOf[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * lowers the key of a queued id.
+     *
+     * @param id a queued id
+     * @param key the new key, not larger than the current one
+     */
+    void decreaseKey(int id, long key) {
+        keys[id] = key;
+        siftUp(slotOf[id]);
+    }
+
+    /**
+     * removes a queued id.
+     *
+     * @param id a queued id
+     */
+    void remove(int id) {
+        int slot = slotOf[id];
+        slotOf[id] = -1;
+        size--;
+        if (slot < size) {
+            // the last id fills the hole and moves whichever way its key needs
+            int moved = heap[size];
+            heap[slot] = moved;
+            slotOf[moved] = slot;
+            siftDown(slot);
+            if (slotOf[moved] == slot) siftUp(slot);
+        }
+    }
+
+    /**
+     * @return the smallest key, the heap must not be empty
+     */
+    long peekKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * removes and returns the id with the smallest key.
+     * the heap must not be empty.
+     *
+     * @return the id with the smallest key
+     */
+    int poll() {
+        int top = heap[0];
+        slotOf[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            slotOf[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * moves the id at a slot up until its parent is not larger.
+     */
+    private void siftUp(int slot) {
+        int id = heap[slot];
+        long key = keys[id];
+        while (slot > 0) {
+            int parentSlot = (slot - 1) >>> 1;
+            int parent = heap[parentSlot];
+            if (keys[parent] <= key) break;
+            heap[slot] = parent;
+            slotOf[parent] = slot;
+            slot = parentSlot;
+        }
+        heap[slot] = id;
+        slotOf[id] = slot;
+    }
+
+    /**
+     * moves the id at a slot down until both children are not smaller.
+     */
+    private void siftDown(int slot) {
+        int id = heap[slot];
+        long key = keys[id];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) break;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[heap[child]] >= key) break;
+            heap[slot] = heap[child];
+            slotOf[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = id;
+        slotOf[id] = slot;
+    }
+}
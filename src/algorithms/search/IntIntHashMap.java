@@ -0,0 +1,140 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * open addressing hash map from non negative int keys to int values.
+ * stores keys and values in two flat arrays, so an entry costs a few bytes
+ * instead of a boxed Integer pair and a node object.
+ * entries are read back by walking the slots with keyAt and valueAt.
+ */
+final class IntIntHashMap {
+    private static final int FREE = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * creates an empty map.
+     *
+     * @param expected number of entries the map should hold without growing
+     */
+    IntIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE);
+    }
+
+    /**
+     * @return number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the map has no entries
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if the key has an entry
+     */
+    boolean containsKey(int key) {
+        return keys[find(key)] == key;
+    }
+
+    /**
+     * @return the value of a key, or -1 if it has no entry
+     */
+    int get(int key) {
+        int slot = find(key);
+        return keys[slot] == key ? values[slot] : -1;
+    }
+
+    /**
+     * adds an entry if the key doesn't have one yet.
+     *
+     * @return true if the entry was added
+     */
+    boolean putIfAbsent(int key, int value) {
+        int slot = find(key);
+        if (keys[slot] == key) return false;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) grow();
+        return true;
+    }
+
+    /**
+     * removes all entries, keeping the current capacity.
+     */
+    void clear() {
+        if (size == 0) return;
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * @return number of slots, for walking the entries with keyAt and valueAt
+     */
+    int slots() {
+        return keys.length;
+    }
+
+    /**
+     * @return the key in a slot, or -1 if the slot is free
+     */
+    int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * @return the value in a used slot
+     */
+    int valueAt(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * @return bytes taken by the key and value arrays
+     */
+    long memoryBytes() {
+        return 8L * keys.length;
+    }
+
+    /**
+     * @return the slot of a key, or the free slot where it would go
+     */
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * doubles the capacity and puts every entry in its new slot.
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, FREE);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != FREE) {
+                int target = find(oldKeys[slot]);
+                keys[target] = oldKeys[slot];
+                values[target] = oldValues[slot];
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package algorithms.search;
+
+/**
+ * growable fifo queue of primitive ints stored in a circular array.
+ * used by the index based solvers instead of a Queue of boxed states.
+ */
+class IntRingBuffer {
+    private int[] buffer;
+    private int head = 0; // next slot to read
+    private int size = 0;
+
+    /**
+     * creates an empty queue.
+     *
+     * @param initialCapacity starting capacity, rounded up to a power of two
+     */
+    IntRingBuffer(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1;
+        buffer = new int[capacity];
+    }
+
+    /**
+     * adds a value at the tail of the queue, growing the buffer if it is full.
+     *
+     * @param value the value to add
+     */
+    void add(int value) {
+        if (size == buffer.length) {
+            grow();
+        }
+        buffer[(head + size) & (buffer.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * removes and returns the value at the head of the queue.
+     * the queue must not be empty.
+     *
+     * @return the oldest value in the queue
+     */
+    int poll() {
+        int value = buffer[head];
+        head = (head + 1) & (buffer.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * @return true if the queue holds no values
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of values in the queue
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * empties the queue but keeps the buffer for reuse.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * doubles the buffer and unwraps the stored values to the front of it.
+     */
+    private void grow() {
+        int[] newBuffer = new int[buffer.length * 2];
+        int firstPart = buffer.length - head;
+        System.arraycopy(buffer, head, newBuffer, 0, firstPart);
+        System.arraycopy(buffer, 0, newBuffer, firstPart, head);
+        buffer = newBuffer;
+        head = 0;
+    }
+}
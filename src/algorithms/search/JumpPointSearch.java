@@ -0,0 +1,252 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * jump point search for the 8-connected moves of a SearchableMaze
+ * (a diagonal move needs both adjacent straight cells to be walkable).
+ * runs a* but, instead of adding every neighbor to the open list, it jumps in a straight line
+ * or diagonal until it reaches a cell where the path could turn (a jump point),
+ * so the long symmetric runs of an open grid are skipped without being queued.
+ * the path between jump points is filled back in, so the solution lists every cell.
+ * only jump points count as evaluated nodes.
+ */
+public class JumpPointSearch extends ASearchingAlgorithm {
+    private SearchableMaze maze;
+    private int cols;
+    private int goalIndex;
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Jump Point Search";
+    }
+
+    /**
+     * solves a searchable problem using jump point search.
+     *
+     * @param domain the problem to solve
+     * @return a solution object (shortest path from start to goal)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        cols = maze.getColumns();
+        int startIndex = maze.getStartIndex();
+        goalIndex = maze.getGoalIndex();
+
+        SearchContext context = SearchContext.acquire(maze.getCellCount());
+        try {
+            int[] g = context.cost;
+            int[] parent = context.parent;
+            long[] closed = context.visited;
+            IndexedMinHeap open = context.heap();
+            int[] successors = new int[8];
+
+            Arrays.fill(g, 0, maze.getCellCount(), Integer.MAX_VALUE);
+            g[startIndex] = 0;
+            parent[startIndex] = -1;
+            open.insert(startIndex, IndexedMinHeap.key(0, SearchableMaze.moveCount(startIndex, goalIndex, cols)));
+
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                visitedNodes++;
+                checkCancelled();
+                closed[current >>> 6] |= 1L << current;
+
+                if (current == goalIndex) {
+                    return buildSolution(parent, g);
+                }
+
+                int count = prunedNeighbors(current, parent[current], successors);
+                for (int i = 0; i < count; i++) {
+                    int jumpPoint = jump(successors[i], current);
+                    if (jumpPoint == -1 || (closed[jumpPoint >>> 6] & (1L << jumpPoint)) != 0) continue;
+
+                    int tentative = g[current] + SearchableMaze.moveCount(current, jumpPoint, cols);
+                    if (tentative < g[jumpPoint]) {
+                        g[jumpPoint] = tentative;
+                        parent[jumpPoint] = current;
+                        long key = IndexedMinHeap.key(tentative, SearchableMaze.moveCount(jumpPoint, goalIndex, cols));
+                        if (open.contains(jumpPoint)) {
+                            open.decreaseKey(jumpPoint, key);
+                        } else {
+                            open.insert(jumpPoint, key);
+                            generatedNodes++;
+                        }
+                    }
+                }
+                recordFrontier(open.size());
+                recordClosed(visitedNodes);
+            }
+
+            // no solution found
+            return new Solution(null);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * lists the neighbors worth exploring from a cell given the direction it was reached from.
+     * cells that are reached at least as cheaply without passing through this cell are skipped.
+     *
+     * @param index the current cell
+     * @param parentIndex the jump point the cell was reached from, or -1 for the start
+     * @param out receives the neighbor indices
+     * @return number of neighbors written
+     */
+    private int prunedNeighbors(int index, int parentIndex, int[] out) {
+        if (parentIndex == -1) {
+            return maze.getSuccessorIndices(index, out);
+        }
+
+        int row = index / cols;
+        int col = index % cols;
+        int dr = Integer.signum(row - parentIndex / cols);
+        int dc = Integer.signum(col - parentIndex % cols);
+        int count = 0;
+
+        if (dr != 0 && dc != 0) {
+            // diagonal: keep going straight on both axes and diagonally
+            boolean vertical = walkable(row + dr, col);
+            boolean horizontal = walkable(row, col + dc);
+            if (vertical) out[count++] = index + dr * cols;
+            if (horizontal) out[count++] = index + dc;
+            if (vertical && horizontal && walkable(row + dr, col + dc)) out[count++] = index + dr * cols + dc;
+        } else if (dr == 0) {
+            // horizontal: keep going and check the cells above and below
+            boolean up = walkable(row - 1, col);
+            boolean down = walkable(row + 1, col);
+            if (walkable(row, col + dc)) {
+                out[count++] = index + dc;
+                if (up && walkable(row - 1, col + dc)) out[count++] = index - cols + dc;
+                if (down && walkable(row + 1, col + dc)) out[count++] = index + cols + dc;
+            }
+            if (up) out[count++] = index - cols;
+            if (down) out[count++] = index + cols;
+        } else {
+            // vertical: keep going and check the cells to the left and right
+            boolean left = walkable(row, col - 1);
+            boolean right = walkable(row, col + 1);
+            if (walkable(row + dr, col)) {
+                out[count++] = index + dr * cols;
+                if (left && walkable(row + dr, col - 1)) out[count++] = index + dr * cols - 1;
+                if (right && walkable(row + dr, col + 1)) out[count++] = index + dr * cols + 1;
+            }
+            if (left) out[count++] = index - 1;
+            if (right) out[count++] = index + 1;
+        }
+        return count;
+    }
+
+    /**
+     * walks from a neighbor of a cell in the direction of that neighbor until it reaches
+     * the goal or a cell with a forced neighbor (a jump point).
+     *
+     * @param index the first cell of the jump
+     * @param fromIndex the cell the jump starts from
+     * @return the jump point, or -1 if the walk runs into a wall
+     */
+    private int jump(int index, int fromIndex) {
+        int row = index / cols;
+        int col = index % cols;
+        int dr = row - fromIndex / cols;
+        int dc = col - fromIndex % cols;
+
+        while (true) {
+            if (!walkable(row, col)) return -1;
+            // a diagonal step needs both adjacent straight cells
+            if (dr != 0 && dc != 0 && !(walkable(row - dr, col) && walkable(row, col - dc))) return -1;
+
+            int current = row * cols + col;
+            if (current == goalIndex) return current;
+
+            if (dr != 0 && dc != 0) {
+                // a diagonal cell is a jump point if a straight jump from it finds one
+                if (jumpStraight(row, col, dr, 0) || jumpStraight(row, col, 0, dc)) return current;
+            } else if (hasForcedNeighbor(row, col, dr, dc)) {
+                return current;
+            }
+
+            row += dr;
+            col += dc;
+        }
+    }
+
+    /**
+     * walks straight from (row, col) and reports whether it reaches the goal or a jump point.
+     */
+    private boolean jumpStraight(int row, int col, int dr, int dc) {
+        row += dr;
+        col += dc;
+        while (walkable(row, col)) {
+            if (row * cols + col == goalIndex || hasForcedNeighbor(row, col, dr, dc)) return true;
+            row += dr;
+            col += dc;
+        }
+        return false;
+    }
+
+    /**
+     * a cell reached by a straight move has a forced neighbor when a side cell is open
+     * but the matching side cell of the previous step is blocked, so the path may have to turn here.
+     */
+    private boolean hasForcedNeighbor(int row, int col, int dr, int dc) {
+        if (dr == 0) {
+            return (walkable(row - 1, col) && !walkable(row - 1, col - dc))
+                    || (walkable(row + 1, col) && !walkable(row + 1, col - dc));
+        }
+        return (walkable(row, col - 1) && !walkable(row - dr, col - 1))
+                || (walkable(row, col + 1) && !walkable(row - dr, col + 1));
+    }
+
+    /**
+     * fills in the cells between consecutive jump points and builds the solution.
+     * the arrays of the search are rewritten in place, so no array per solve is allocated:
+     * the jumps of a shortest path don't overlap, and every jump is read before its cells are written.
+     *
+     * @param parent parent jump point of every reached jump point, becomes the parent cell of every path cell
+     * @param g cost to reach every jump point, becomes the cost of every path cell
+     * @return the full cell by cell solution
+     */
+    private Solution buildSolution(int[] parent, int[] g) {
+        int startIndex = goalIndex;
+        while (parent[startIndex] != -1) startIndex = parent[startIndex];
+
+        for (int index = goalIndex; index != startIndex; ) {
+            int from = parent[index];
+            int dr = Integer.signum(index / cols - from / cols);
+            int dc = Integer.signum(index % cols - from % cols);
+            int step = dr * cols + dc;
+
+            // every cell of a jump is one step further than the cell before it
+            for (int cell = index; cell != from; cell -= step) {
+                parent[cell] = cell - step;
+                g[cell] = g[from] + SearchableMaze.moveCount(from, cell, cols);
+            }
+            index = from;
+        }
+
+        return maze.buildSolution(parent, goalIndex, g);
+    }
+
+    /**
+     * @return true if the cell is inside the maze and not a wall
+     */
+    private boolean walkable(int row, int col) {
+        return maze.isWalkable(row, col);
+    }
+}
@@ -0,0 +1,180 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * a maze contracted to its junctions and dead ends.
+ * every walkable cell that does not have exactly two moves becomes a node, and every corridor
+ * of two-move cells between two nodes becomes an edge weighted by its length.
+ * an edge keeps the first cell of its corridor, so the corridor can be walked again
+ * to expand a path on the graph back to cells.
+ * graphs are built once per maze content and shared through a cache limited in bytes.
+ */
+final class JunctionGraph {
+    // bytes of graphs kept in the cache, each takes 4 bytes per maze cell plus its nodes and edges
+    private static final long CACHE_BYTES = 64L << 20;
+    // rough size of an array header, for the three edge arrays of every node
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final LruCache<MazeFingerprint, JunctionGraph> CACHE =
+            new LruCache<>(CACHE_BYTES, JunctionGraph::memoryBytes);
+
+    private final int[] nodeOfCell;   // node of every cell, -1 for corridor cells and walls
+    private final int[] nodeCells;    // cell of every node
+    private final int[][] edgeTargets; // node at the other end of every corridor
+    private final int[][] edgeLengths; // number of moves along every corridor
+    private final int[][] edgeFirsts;  // first cell of every corridor
+
+    /**
+     * finds the nodes of a maze and walks the corridors between them.
+     *
+     * @param maze the maze to contract
+     */
+    private JunctionGraph(SearchableMaze maze) {
+        int cellCount = maze.getCellCount();
+        nodeOfCell = new int[cellCount];
+        Arrays.fill(nodeOfCell, -1);
+
+        int nodeCount = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (maze.getState(cell) != null && Integer.bitCount(maze.getNeighborMask(cell)) != 2) {
+                nodeOfCell[cell] = nodeCount++;
+            }
+        }
+
+        nodeCells = new int[nodeCount];
+        edgeTargets = new int[nodeCount][];
+        edgeLengths = new int[nodeCount][];
+        edgeFirsts = new int[nodeCount][];
+
+        int[] successors = new int[8];
+        int[] walk = new int[3];
+        int[] targets = new int[8];
+        int[] lengths = new int[8];
+        int[] firsts = new int[8];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int node = nodeOfCell[cell];
+            if (node == -1) continue;
+            nodeCells[node] = cell;
+
+            int count = maze.getSuccessorIndices(cell, successors);
+            int edges = 0;
+            for (int i = 0; i < count; i++) {
+                walk(maze, cell, successors[i], -1, walk);
+                if (walk[0] == cell) continue; // a corridor that comes back is never part of a shortest path
+                targets[edges] = nodeOfCell[walk[0]];
+                lengths[edges] = walk[1];
+                firsts[edges] = successors[i];
+                edges++;
+            }
+            edgeTargets[node] = Arrays.copyOf(targets, edges);
+            edgeLengths[node] = Arrays.copyOf(lengths, edges);
+            edgeFirsts[node] = Arrays.copyOf(firsts, edges);
+        }
+    }
+
+    /**
+     * returns the graph of a maze, from the cache if a maze with the same walls was contracted before.
+     *
+     * @param maze the maze
+     * @return its junction graph
+     */
+    static JunctionGraph of(SearchableMaze maze) {
+        MazeFingerprint fingerprint = maze.getFingerprint();
+        JunctionGraph graph = CACHE.get(fingerprint);
+        if (graph == null) {
+            graph = new JunctionGraph(maze);
+            CACHE.put(fingerprint, graph);
+        }
+        return graph;
+    }
+
+    /**
+     * @return bytes taken by the graph: the node of every cell, the cell of every node and the edges
+     */
+    long memoryBytes() {
+        long bytes = 4L * nodeOfCell.length + 4L * nodeCells.length;
+        for (int node = 0; node < nodeCells.length; node++) {
+            bytes += 3L * (ARRAY_HEADER_BYTES + 4L * edgeTargets[node].length);
+        }
+        return bytes;
+    }
+
+    /**
+     * @return number of nodes
+     */
+    int getNodeCount() {
+        return nodeCells.length;
+    }
+
+    /**
+     * @return the node placed on a cell, or -1 if the cell is a corridor cell or a wall
+     */
+    int nodeOf(int cell) {
+        return nodeOfCell[cell];
+    }
+
+    /**
+     * @return the cell of a node
+     */
+    int cellOf(int node) {
+        return nodeCells[node];
+    }
+
+    /**
+     * @return the nodes at the other end of the corridors of a node
+     */
+    int[] edgeTargets(int node) {
+        return edgeTargets[node];
+    }
+
+    /**
+     * @return the corridor lengths of a node, in the order of edgeTargets
+     */
+    int[] edgeLengths(int node) {
+        return edgeLengths[node];
+    }
+
+    /**
+     * @return the first corridor cell of every edge of a node, in the order of edgeTargets
+     */
+    int[] edgeFirsts(int node) {
+        return edgeFirsts[node];
+    }
+
+    /**
+     * follows a corridor from a cell until it reaches a node, a given cell, or the cell it started from.
+     *
+     * @param maze the maze
+     * @param from the cell the walk starts at
+     * @param first the first cell of the walk, a neighbor of from
+     * @param stopAt a corridor cell to stop at, or -1
+     * @param result receives the cell the walk ended at, the number of moves, and the cell before the end
+     */
+    void walk(SearchableMaze maze, int from, int first, int stopAt, int[] result) {
+        int previous = from;
+        int current = first;
+        int length = 1;
+        while (nodeOfCell[current] == -1 && current != stopAt && current != from) {
+            int next = nextInCorridor(maze, previous, current);
+            previous = current;
+            current = next;
+            length++;
+        }
+        result[0] = current;
+        result[1] = length;
+        result[2] = previous;
+    }
+
+    /**
+     * @return the neighbor of a corridor cell that is not the cell it was entered from
+     */
+    static int nextInCorridor(SearchableMaze maze, int previous, int current) {
+        int mask = maze.getNeighborMask(current);
+        int next = current + maze.getStepOffset(Integer.numberOfTrailingZeros(mask));
+        if (next == previous) {
+            mask &= mask - 1;
+            next = current + maze.getStepOffset(Integer.numberOfTrailingZeros(mask));
+        }
+        return next;
+    }
+}
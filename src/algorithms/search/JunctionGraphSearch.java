@@ -0,0 +1,203 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * a* over the JunctionGraph of a maze instead of over its cells.
+ * a long corridor costs a single edge, so on perfect mazes only junctions and dead ends are
+ * evaluated. a start or goal in the middle of a corridor is linked to the two nodes at the
+ * ends of its corridor. the corridors of the found route are walked again to build a cell by
+ * cell solution, which is a shortest one.
+ */
+public class JunctionGraphSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Junction Graph Search";
+    }
+
+    /**
+     * solves a searchable problem on the junction graph of its maze.
+     *
+     * @param domain the problem to solve
+     * @return a solution object (shortest path from start to goal)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+        if (startIndex == goalIndex) {
+            return singleCell(maze, startIndex);
+        }
+
+        JunctionGraph graph = JunctionGraph.of(maze);
+        int nodeCount = graph.getNodeCount();
+        int start = graph.nodeOf(startIndex) != -1 ? graph.nodeOf(startIndex) : nodeCount;
+        int goal = graph.nodeOf(goalIndex) != -1 ? graph.nodeOf(goalIndex) : nodeCount + 1;
+
+        // corridors from a start or goal that is not a node; at most two each
+        int[] successors = new int[8];
+        int[] walk = new int[3];
+        int[][] startEdges = new int[2][]; // {target, length, first}
+        int[][] goalEdges = new int[2][];  // {source node, length, first}
+        if (start == nodeCount) {
+            int count = maze.getSuccessorIndices(startIndex, successors);
+            for (int i = 0; i < count; i++) {
+                graph.walk(maze, startIndex, successors[i], goalIndex, walk);
+                if (walk[0] == startIndex) return fallback(maze); // a loop with no junction on it
+                int target = walk[0] == goalIndex ? goal : graph.nodeOf(walk[0]);
+                startEdges[i] = new int[]{ target, walk[1], successors[i] };
+            }
+        }
+        if (goal == nodeCount + 1) {
+            int count = maze.getSuccessorIndices(goalIndex, successors);
+            for (int i = 0; i < count; i++) {
+                graph.walk(maze, goalIndex, successors[i], startIndex, walk);
+                if (walk[0] == goalIndex) return fallback(maze);
+                if (walk[0] == startIndex && start == nodeCount) continue; // already linked from the start side
+                // the corridor is entered from the node through the cell just before it
+                goalEdges[i] = new int[]{ graph.nodeOf(walk[0]), walk[1], walk[2] };
+            }
+        }
+
+        int cols = maze.getColumns();
+        int[] g = new int[nodeCount + 2];
+        int[] parent = new int[nodeCount + 2];
+        int[] parentFirst = new int[nodeCount + 2];
+        boolean[] closed = new boolean[nodeCount + 2];
+        IndexedMinHeap open = new IndexedMinHeap(nodeCount + 2);
+        Arrays.fill(g, Integer.MAX_VALUE);
+
+        g[start] = 0;
+        parent[start] = -1;
+        open.insert(start, IndexedMinHeap.key(0, SearchableMaze.moveCount(startIndex, goalIndex, cols)));
+
+        int queued = open.size(); // heap size after the last poll, to count the new entries
+        while (!open.isEmpty()) {
+            generatedNodes += open.size() - queued;
+            recordFrontier(open.size());
+            recordClosed(visitedNodes);
+            int current = open.poll();
+            queued = open.size();
+            visitedNodes++;
+            checkCancelled();
+            closed[current] = true;
+
+            if (current == goal) {
+                return expand(maze, graph, start, goal, startIndex, goalIndex, parent, parentFirst);
+            }
+
+            if (current == nodeCount) {
+                for (int[] edge : startEdges) {
+                    if (edge == null) continue;
+                    relax(open, g, parent, parentFirst, closed, current, edge[0], edge[1], edge[2],
+                            graph, goal, goalIndex, cols);
+                }
+                continue;
+            }
+
+            int[] targets = graph.edgeTargets(current);
+            int[] lengths = graph.edgeLengths(current);
+            int[] firsts = graph.edgeFirsts(current);
+            for (int i = 0; i < targets.length; i++) {
+                relax(open, g, parent, parentFirst, closed, current, targets[i], lengths[i], firsts[i],
+                        graph, goal, goalIndex, cols);
+            }
+            for (int[] edge : goalEdges) {
+                if (edge == null || edge[0] != current) continue;
+                relax(open, g, parent, parentFirst, closed, current, goal, edge[1], edge[2],
+                        graph, goal, goalIndex, cols);
+            }
+        }
+
+        // no solution found
+        return new Solution(null);
+    }
+
+    /**
+     * updates a node if it is cheaper to reach through another one.
+     */
+    private static void relax(IndexedMinHeap open, int[] g, int[] parent, int[] parentFirst, boolean[] closed,
+                              int from, int to, int length, int first, JunctionGraph graph, int goal,
+                              int goalIndex, int cols) {
+        if (closed[to]) return;
+        int tentative = g[from] + length;
+        if (tentative >= g[to]) return;
+
+        g[to] = tentative;
+        parent[to] = from;
+        parentFirst[to] = first;
+        int h = to == goal ? 0 : SearchableMaze.moveCount(graph.cellOf(to), goalIndex, cols);
+        long key = IndexedMinHeap.key(tentative, h);
+        if (open.contains(to)) {
+            open.decreaseKey(to, key);
+        } else {
+            open.insert(to, key);
+        }
+    }
+
+    /**
+     * walks the corridors of the route found on the graph and builds the cell by cell solution.
+     */
+    private Solution expand(SearchableMaze maze, JunctionGraph graph, int start, int goal, int startIndex,
+                            int goalIndex, int[] parent, int[] parentFirst) {
+        // nodes of the route, goal first
+        List<Integer> route = new ArrayList<>();
+        for (int node = goal; node != -1; node = parent[node]) {
+            route.add(node);
+        }
+
+        List<AState> path = new ArrayList<>();
+        path.add(maze.getState(startIndex));
+        for (int i = route.size() - 1; i > 0; i--) {
+            int from = route.get(i);
+            int to = route.get(i - 1);
+            int fromCell = from == start ? startIndex : graph.cellOf(from);
+            int toCell = to == goal ? goalIndex : graph.cellOf(to);
+
+            int previous = fromCell;
+            int current = parentFirst[to];
+            path.add(maze.getState(current));
+            while (current != toCell) {
+                int next = JunctionGraph.nextInCorridor(maze, previous, current);
+                previous = current;
+                current = next;
+                path.add(maze.getState(current));
+            }
+        }
+        return Solution.fromPath(path, null);
+    }
+
+    /**
+     * solves a maze whose start or goal lies on a closed loop of corridor cells,
+     * which has no node to attach to.
+     */
+    private Solution fallback(SearchableMaze maze) {
+        return delegate(new FlatBreadthFirstSearch(), maze);
+    }
+
+    /**
+     * @return a solution made of a single cell
+     */
+    private static Solution singleCell(SearchableMaze maze, int index) {
+        List<AState> path = new ArrayList<>();
+        path.add(maze.getState(index));
+        return Solution.fromPath(path, null);
+    }
+}
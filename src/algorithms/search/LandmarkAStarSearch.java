@@ -0,0 +1,125 @@
+package algorithms.search;
+
+import java.util.Objects;
+
+/**
+ * a* search with the alt heuristic: landmarks and the triangle inequality.
+ * in a winding maze the octile distance is far below the real cost, so plain a* expands nearly as
+ * much as a bfs. the exact distances from a few landmark cells give much tighter lower bounds,
+ * so once the landmarks of a maze are built and cached, later solves on the same maze expand
+ * a small part of it. the larger of the landmark bound and the octile distance is used, and the
+ * returned path is still a cheapest one.
+ * landmarks are kept per maze content, move costs and landmark count in a cache limited in bytes,
+ * and a set larger than the whole cache is used for its solve only.
+ * the first solve on a maze pays for one dijkstra per landmark, counted in the nodes evaluated.
+ * like AStarSearch it is an ILargeMazeSearch, so the solve server uses it on large mazes as well.
+ */
+public class LandmarkAStarSearch extends AStarSearch {
+    // landmarks when no count is given
+    private static final int DEFAULT_LANDMARKS = 4;
+    // bytes of landmark distances kept in the cache, every set takes 4 bytes per cell and landmark
+    private static final long CACHE_BYTES = 64L << 20;
+    private static final LruCache<LandmarkKey, Landmarks> CACHE = new LruCache<>(CACHE_BYTES, Landmarks::memoryBytes);
+
+    private final int landmarkCount;
+
+    /**
+     * creates a landmark a* search with the default number of landmarks.
+     */
+    public LandmarkAStarSearch() {
+        this(DEFAULT_LANDMARKS);
+    }
+
+    /**
+     * creates a landmark a* search.
+     *
+     * @param landmarkCount number of landmarks, every one takes an int per cell of the maze
+     * @throws IllegalArgumentException if landmarkCount is less than 1
+     */
+    public LandmarkAStarSearch(int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("landmark count must be at least 1");
+        }
+        this.landmarkCount = landmarkCount;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Landmark A Star Search";
+    }
+
+    /**
+     * the largest of the octile distance and the landmark bounds |d(l, goal) - d(l, cell)|.
+     * a landmark that can't reach both cells gives no bound.
+     */
+    @Override
+    CellHeuristic heuristic(SearchableMaze maze) {
+        Landmarks landmarks = landmarksOf(maze);
+        int goalIndex = maze.getGoalIndex();
+        int count = landmarks.getCount();
+        int[] toGoal = new int[count];
+        for (int i = 0; i < count; i++) {
+            toGoal[i] = landmarks.distance(i, goalIndex);
+        }
+
+        return cell -> {
+            int best = maze.estimateCost(cell, goalIndex);
+            for (int i = 0; i < count; i++) {
+                int fromLandmark = landmarks.distance(i, cell);
+                if (fromLandmark < 0 || toGoal[i] < 0) continue;
+                best = Math.max(best, Math.abs(toGoal[i] - fromLandmark));
+            }
+            return best;
+        };
+    }
+
+    /**
+     * takes the landmarks of a maze from the cache, or builds them.
+     */
+    private Landmarks landmarksOf(SearchableMaze maze) {
+        LandmarkKey key = new LandmarkKey(maze.getFingerprint(), landmarkCount, maze.getMoveCost(0), maze.getMoveCost(4));
+        Landmarks landmarks = CACHE.get(key);
+        if (landmarks == null) {
+            landmarks = new Landmarks(maze, landmarkCount);
+            CACHE.put(key, landmarks);
+            visitedNodes += landmarks.getSettledCells();
+        }
+        return landmarks;
+    }
+
+    /**
+     * cache key: the maze content, the move costs and the number of landmarks.
+     */
+    private static final class LandmarkKey {
+        private final MazeFingerprint fingerprint;
+        private final int count;
+        private final int straightCost;
+        private final int diagonalCost;
+
+        LandmarkKey(MazeFingerprint fingerprint, int count, int straightCost, int diagonalCost) {
+            this.fingerprint = fingerprint;
+            this.count = count;
+            this.straightCost = straightCost;
+            this.diagonalCost = diagonalCost;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof LandmarkKey)) return false;
+            LandmarkKey other = (LandmarkKey) obj;
+            return count == other.count && straightCost == other.straightCost
+                    && diagonalCost == other.diagonalCost && fingerprint.equals(other.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, count, straightCost, diagonalCost);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * exact distances from a few landmark cells to every cell of a maze, for the alt heuristic.
+ * moves can be taken back at the same cost, so for any landmark l the triangle inequality gives
+ * |d(l, goal) - d(l, cell)| as a lower bound on the cost from cell to goal, and the largest of
+ * these bounds is a consistent heuristic that is often close to the real cost in winding mazes.
+ * landmarks are picked by farthest point selection from the start cell: every new landmark is the
+ * reachable cell farthest from the ones already picked, which puts them at the ends of the maze.
+ * the distances follow the move costs of the maze and take one int per cell and landmark.
+ */
+final class Landmarks {
+    private final int[] cells;       // the landmark cells
+    private final int[][] distances; // distance from every landmark to every cell, -1 if not reachable
+    private final long settledCells; // cells settled by all the searches that built the set
+
+    /**
+     * picks the landmarks of a maze and computes their distances.
+     *
+     * @param maze the maze, its start must be walkable
+     * @param count number of landmarks
+     */
+    Landmarks(SearchableMaze maze, int count) {
+        int cellCount = maze.getCellCount();
+        cells = new int[count];
+        distances = new int[count][];
+
+        // the first landmark is the cell farthest from the start
+        int[] scratch = new int[cellCount];
+        long settled = distancesFrom(maze, maze.getStartIndex(), scratch);
+        int[] nearest = scratch; // distance from every cell to the closest landmark so far
+
+        for (int i = 0; i < count; i++) {
+            int farthest = maze.getStartIndex();
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (nearest[cell] > nearest[farthest]) farthest = cell;
+            }
+            cells[i] = farthest;
+            distances[i] = new int[cellCount];
+            settled += distancesFrom(maze, farthest, distances[i]);
+
+            if (i == 0) {
+                System.arraycopy(distances[0], 0, nearest, 0, cellCount); // the start distances aren't needed anymore
+            } else {
+                for (int cell = 0; cell < cellCount; cell++) {
+                    nearest[cell] = Math.min(nearest[cell], distances[i][cell]);
+                }
+            }
+        }
+        settledCells = settled;
+    }
+
+    /**
+     * @return bytes taken by the distances of the set
+     */
+    long memoryBytes() {
+        long bytes = 0;
+        for (int[] row : distances) {
+            bytes += 4L * row.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return number of cells settled while the set was built
+     */
+    long getSettledCells() {
+        return settledCells;
+    }
+
+    /**
+     * @return number of landmarks
+     */
+    int getCount() {
+        return cells.length;
+    }
+
+    /**
+     * @param landmark which landmark
+     * @param cell flat index of a cell
+     * @return distance from the landmark to the cell, or -1 if the cell can't be reached from it
+     */
+    int distance(int landmark, int cell) {
+        return distances[landmark][cell];
+    }
+
+    /**
+     * dijkstra over the whole maze from one cell, with a bucket queue since move costs are small integers.
+     *
+     * @param maze the maze
+     * @param source the cell to measure from
+     * @param dist receives the distance of every cell, -1 if it can't be reached
+     * @return number of cells settled
+     */
+    private static long distancesFrom(SearchableMaze maze, int source, int[] dist) {
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        BucketQueue queue = new BucketQueue(maze.getMaxMoveCost());
+        dist[source] = 0;
+        queue.add(source, 0);
+        long settled = 0;
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            if (queue.lastKey() > dist[current]) continue; // reached more cheaply since
+            settled++;
+            int mask = maze.getNeighborMask(current);
+            while (mask != 0) {
+                int d = Integer.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                int neighbor = current + maze.getStepOffset(d);
+                int cost = dist[current] + maze.getMoveCost(d);
+                if (cost < dist[neighbor]) {
+                    dist[neighbor] = cost;
+                    queue.add(neighbor, cost);
+                }
+            }
+        }
+
+        for (int cell = 0; cell < dist.length; cell++) {
+            if (dist[cell] == Integer.MAX_VALUE) dist[cell] = -1;
+        }
+        return settled;
+    }
+}
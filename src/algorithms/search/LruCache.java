@@ -0,0 +1,71 @@
+package algorithms.search;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * small thread safe cache that drops the least recently used entries when it is full.
+ * used to keep per-maze preprocessing results for the mazes that are solved most often.
+ * the size of the cache is counted in entries, or in bytes for caches of large arrays.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+class LruCache<K, V> {
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long capacity;
+    private final ToLongFunction<? super V> weigher;
+    private long weight; // total weight of the entries
+
+    /**
+     * creates an empty cache that keeps a number of entries.
+     *
+     * @param maxEntries how many entries are kept at most
+     */
+    LruCache(int maxEntries) {
+        this(maxEntries, value -> 1);
+    }
+
+    /**
+     * creates an empty cache that keeps entries up to a total weight.
+     * a value heavier than the whole capacity is not kept at all.
+     *
+     * @param capacity the largest total weight, for example in bytes
+     * @param weigher weight of a value
+     */
+    LruCache(long capacity, ToLongFunction<? super V> weigher) {
+        this.capacity = capacity;
+        this.weigher = weigher;
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the cached value, or null if there is none
+     */
+    synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * stores a value, possibly dropping the least recently used ones.
+     *
+     * @param key the key
+     * @param value the value to keep
+     */
+    synchronized void put(K key, V value) {
+        long added = weigher.applyAsLong(value);
+        V previous = entries.remove(key);
+        if (previous != null) weight -= weigher.applyAsLong(previous);
+        if (added > capacity) return;
+
+        entries.put(key, value);
+        weight += added;
+        Iterator<V> eldest = entries.values().iterator();
+        while (weight > capacity) {
+            weight -= weigher.applyAsLong(eldest.next());
+            eldest.remove();
+        }
+    }
+}
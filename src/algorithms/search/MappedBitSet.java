@@ -0,0 +1,77 @@
+package algorithms.search;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * a bit set kept in a memory mapped file, for more bits than fit in the heap.
+ * the operating system pages the parts that are in use in and out of memory.
+ * closing the set unmaps the file right away instead of when the buffers are garbage collected.
+ */
+final class MappedBitSet implements Closeable {
+    // every mapping covers 1 GB of the file
+    private static final int CHUNK_BITS = 30;
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * creates a file of cleared bits, replacing the file if it exists.
+     *
+     * @param path the backing file
+     * @param size number of bits
+     * @throws IOException if the file can't be created
+     */
+    MappedBitSet(File path, long size) throws IOException {
+        long length = Math.max(1, (size + 7) >>> 3);
+        file = new RandomAccessFile(path, "rw");
+        try {
+            file.setLength(0);
+            file.setLength(length);
+
+            FileChannel channel = file.getChannel();
+            int count = (int) ((length + (1L << CHUNK_BITS) - 1) >>> CHUNK_BITS);
+            chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, Math.min(1L << CHUNK_BITS, length - offset));
+            }
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if the bit is set
+     */
+    boolean get(long bit) {
+        long offset = bit >>> 3;
+        byte value = chunks[(int) (offset >>> CHUNK_BITS)].get((int) (offset & ((1L << CHUNK_BITS) - 1)));
+        return (value & (1 << (bit & 7))) != 0;
+    }
+
+    /**
+     * sets a bit.
+     */
+    void set(long bit) {
+        long offset = bit >>> 3;
+        MappedByteBuffer chunk = chunks[(int) (offset >>> CHUNK_BITS)];
+        int position = (int) (offset & ((1L << CHUNK_BITS) - 1));
+        chunk.put(position, (byte) (chunk.get(position) | (1 << (bit & 7))));
+    }
+
+    /**
+     * unmaps the bits and closes the backing file, so the file can be deleted.
+     * the set must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        MappedFiles.unmap(chunks);
+        file.close();
+    }
+}
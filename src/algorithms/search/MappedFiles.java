@@ -0,0 +1,97 @@
+package algorithms.search;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * releases memory mapped files and deletes work files.
+ * a mapping normally lives until its buffer is garbage collected, and on some systems a file
+ * can't be deleted while it is mapped, so the buffers are unmapped as soon as they are closed.
+ * there is no public api for that in java 8, so the cleaner of the jdk is found by reflection:
+ * Unsafe.invokeCleaner on java 9 and later, DirectBuffer.cleaner() on java 8. where neither
+ * exists the mapping is left to the garbage collector.
+ */
+final class MappedFiles {
+    private static final Unmapper UNMAPPER = findUnmapper();
+
+    private MappedFiles() {
+    }
+
+    /**
+     * unmaps buffers that are no longer used. the entries of the array are cleared first,
+     * so a later read through the array fails with an exception instead of touching freed memory.
+     *
+     * @param buffers the mapped buffers, null entries are skipped
+     */
+    static void unmap(MappedByteBuffer[] buffers) {
+        for (int i = 0; i < buffers.length; i++) {
+            MappedByteBuffer buffer = buffers[i];
+            buffers[i] = null;
+            if (buffer == null) continue;
+            try {
+                UNMAPPER.unmap(buffer);
+            } catch (Exception e) {
+                // the mapping stays until the buffer is garbage collected
+            }
+        }
+    }
+
+    /**
+     * deletes work files, in the given order so a directory comes after the files in it.
+     * the ones that can't be deleted now are deleted when the jvm exits, in the same order.
+     *
+     * @param files the files and empty directories, those that don't exist are skipped
+     */
+    static void delete(File... files) {
+        List<File> left = new ArrayList<>();
+        for (File file : files) {
+            if (!file.delete() && file.exists()) left.add(file);
+        }
+        // files registered for exit are deleted last registered first
+        for (int i = left.size() - 1; i >= 0; i--) {
+            left.get(i).deleteOnExit();
+        }
+    }
+
+    /**
+     * finds the way this jdk unmaps a buffer.
+     */
+    private static Unmapper findUnmapper() {
+        try {
+            // java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not there before java 9
+        }
+        try {
+            // java 8
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            cleaner.setAccessible(true);
+            clean.setAccessible(true);
+            return buffer -> {
+                Object bufferCleaner = cleaner.invoke(buffer);
+                if (bufferCleaner != null) clean.invoke(bufferCleaner);
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> { }; // left to the garbage collector
+        }
+    }
+
+    /**
+     * unmaps a single buffer.
+     */
+    private interface Unmapper {
+        void unmap(MappedByteBuffer buffer) throws Exception;
+    }
+}
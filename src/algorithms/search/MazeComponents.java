@@ -0,0 +1,88 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * connected component labels of the walkable cells of a maze.
+ * two cells have the same label exactly when a path between them exists,
+ * so an unsolvable query is recognized in O(1) without running a search.
+ * labels are computed once per maze content and shared through a cache limited in bytes.
+ */
+final class MazeComponents {
+    // bytes of labels kept in the cache, each labeling takes 4 bytes per maze cell
+    private static final long CACHE_BYTES = 64L << 20;
+    private static final LruCache<MazeFingerprint, MazeComponents> CACHE =
+            new LruCache<>(CACHE_BYTES, components -> 4L * components.labels.length);
+
+    private final int[] labels; // component of every cell, -1 for walls
+    private final int componentCount;
+
+    /**
+     * labels the cells of a maze with one flood fill per component.
+     *
+     * @param maze the maze to label
+     */
+    private MazeComponents(SearchableMaze maze) {
+        labels = new int[maze.getCellCount()];
+        Arrays.fill(labels, -1);
+
+        SearchContext context = SearchContext.acquire(0);
+        try {
+            IntRingBuffer queue = context.queue;
+            int[] successors = new int[8];
+            int next = 0;
+
+            for (int seed = 0; seed < labels.length; seed++) {
+                if (labels[seed] != -1 || maze.getState(seed) == null) continue;
+
+                // flood fill everything reachable from this cell
+                labels[seed] = next;
+                queue.add(seed);
+                while (!queue.isEmpty()) {
+                    int current = queue.poll();
+                    int count = maze.getSuccessorIndices(current, successors);
+                    for (int i = 0; i < count; i++) {
+                        if (labels[successors[i]] == -1) {
+                            labels[successors[i]] = next;
+                            queue.add(successors[i]);
+                        }
+                    }
+                }
+                next++;
+            }
+            componentCount = next;
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * returns the labeling of a maze, from the cache if a maze with the same walls was labeled before.
+     *
+     * @param maze the maze
+     * @return its component labels
+     */
+    static MazeComponents of(SearchableMaze maze) {
+        MazeFingerprint fingerprint = maze.getFingerprint();
+        MazeComponents components = CACHE.get(fingerprint);
+        if (components == null) {
+            components = new MazeComponents(maze);
+            CACHE.put(fingerprint, components);
+        }
+        return components;
+    }
+
+    /**
+     * @return true if both cells are walkable and a path connects them
+     */
+    boolean connected(int a, int b) {
+        return labels[a] != -1 && labels[a] == labels[b];
+    }
+
+    /**
+     * @return number of separate walkable regions
+     */
+    int getComponentCount() {
+        return componentCount;
+    }
+}
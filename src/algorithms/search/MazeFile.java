@@ -0,0 +1,151 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.Position;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * a maze stored in a file and read through memory mapped chunks, so mazes larger than the heap
+ * can be searched.
+ * the file starts with eight ints (magic, version, rows, columns, start row, start column,
+ * goal row, goal column) followed by one byte per cell, row by row: 0 for a path and 1 for a wall.
+ */
+public final class MazeFile implements Closeable, MazeGrid {
+    private static final int MAGIC = 0x4D415A45; // "MAZE"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    // every mapping covers 1 GB of the file
+    private static final int CHUNK_BITS = 30;
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer[] chunks;
+    private final int rows;
+    private final int cols;
+    private final Position start;
+    private final Position goal;
+
+    /**
+     * opens a maze file for reading.
+     *
+     * @param path the file
+     * @throws IOException if the file can't be read or is not a maze file
+     */
+    public MazeFile(File path) throws IOException {
+        file = new RandomAccessFile(path, "r");
+        try {
+            if (file.readInt() != MAGIC || file.readInt() != VERSION) {
+                throw new IOException(path + " is not a maze file");
+            }
+            rows = file.readInt();
+            cols = file.readInt();
+            start = new Position(file.readInt(), file.readInt());
+            goal = new Position(file.readInt(), file.readInt());
+
+            long length = HEADER_BYTES + (long) rows * cols;
+            if (file.length() < length) {
+                throw new IOException(path + " is shorter than its header says");
+            }
+
+            FileChannel channel = file.getChannel();
+            int count = (int) ((length + (1L << CHUNK_BITS) - 1) >>> CHUNK_BITS);
+            chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(1L << CHUNK_BITS, length - offset));
+            }
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * writes a maze in the maze file format.
+     *
+     * @param maze the maze to write
+     * @param path the file to create or overwrite
+     * @throws IOException if the file can't be written
+     */
+    public static void write(Maze maze, File path) throws IOException {
+        write(new SearchableMaze(maze), path);
+    }
+
+    /**
+     * writes the walls of a searchable maze in the maze file format.
+     */
+    static void write(SearchableMaze maze, File path) throws IOException {
+        int rows = maze.getRows();
+        int cols = maze.getColumns();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows);
+            out.writeInt(cols);
+            out.writeInt(maze.getStartIndex() / cols);
+            out.writeInt(maze.getStartIndex() % cols);
+            out.writeInt(maze.getGoalIndex() / cols);
+            out.writeInt(maze.getGoalIndex() % cols);
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    out.writeByte(maze.isWalkable(row, col) ? 0 : 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int getColumns() {
+        return cols;
+    }
+
+    /**
+     * @return the start position
+     */
+    public Position getStartPosition() {
+        return start;
+    }
+
+    /**
+     * @return the goal position
+     */
+    public Position getGoalPosition() {
+        return goal;
+    }
+
+    /**
+     * @return true if a cell is inside the maze and not a wall
+     */
+    public boolean isWalkable(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return false;
+        long offset = HEADER_BYTES + (long) row * cols + col;
+        return chunks[(int) (offset >>> CHUNK_BITS)].get((int) (offset & ((1L << CHUNK_BITS) - 1))) == 0;
+    }
+
+    /**
+     * unmaps the maze and closes the file, so the file can be deleted.
+     * the maze must not be read afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        MappedFiles.unmap(chunks);
+        file.close();
+    }
+}
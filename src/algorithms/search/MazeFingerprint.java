@@ -0,0 +1,47 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * identifies a maze by its content: its size and which cells are walkable, one bit per cell.
+ * two mazes with the same walls have equal fingerprints even if they are different objects,
+ * so it is used as the key of the per-maze preprocessing caches.
+ * start and goal are not part of the fingerprint.
+ */
+final class MazeFingerprint {
+    private final int rows;
+    private final int cols;
+    private final long[] walkable;
+    private final int hash;
+
+    /**
+     * builds the fingerprint of a searchable maze.
+     *
+     * @param maze the maze to describe
+     */
+    MazeFingerprint(SearchableMaze maze) {
+        rows = maze.getRows();
+        cols = maze.getColumns();
+        walkable = new long[(rows * cols + 63) >>> 6];
+        for (int index = 0; index < rows * cols; index++) {
+            if (maze.getState(index) != null) {
+                walkable[index >>> 6] |= 1L << index;
+            }
+        }
+        hash = 31 * (31 * rows + cols) + Arrays.hashCode(walkable);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof MazeFingerprint)) return false;
+        MazeFingerprint other = (MazeFingerprint) obj;
+        return hash == other.hash && rows == other.rows && cols == other.cols
+                && Arrays.equals(walkable, other.walkable);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,73 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Maze;
+import algorithms.mazeGenerators.Position;
+
+/**
+ * read only view of the walls, the start and the goal of a maze, without any per cell objects.
+ * implemented by MazeFile, and by a view over the grid of a Maze.
+ */
+interface MazeGrid {
+
+    /**
+     * @return number of rows
+     */
+    int getRows();
+
+    /**
+     * @return number of columns
+     */
+    int getColumns();
+
+    /**
+     * @return the start position
+     */
+    Position getStartPosition();
+
+    /**
+     * @return the goal position
+     */
+    Position getGoalPosition();
+
+    /**
+     * @return true if a cell is inside the maze and not a wall
+     */
+    boolean isWalkable(int row, int col);
+
+    /**
+     * returns a view over a maze that reads its grid in place, without copying it.
+     *
+     * @param maze the maze
+     * @return the view
+     */
+    static MazeGrid of(Maze maze) {
+        return new MazeGrid() {
+            private final int[][] grid = maze.getGrid();
+
+            @Override
+            public int getRows() {
+                return maze.getRows();
+            }
+
+            @Override
+            public int getColumns() {
+                return maze.getColumns();
+            }
+
+            @Override
+            public Position getStartPosition() {
+                return maze.getStartPosition();
+            }
+
+            @Override
+            public Position getGoalPosition() {
+                return maze.getGoalPosition();
+            }
+
+            @Override
+            public boolean isWalkable(int row, int col) {
+                return row >= 0 && row < grid.length && col >= 0 && col < grid[row].length && grid[row][col] == 0;
+            }
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package algorithms.search;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * level synchronous breadth first search for very large mazes.
+ * every bfs level is split into chunks that are expanded in parallel on a ForkJoinPool.
+ * cells are claimed with a compare-and-set on an atomic visited bitmap, so each cell is
+ * added to the next level exactly once, by the thread that claimed it, which also writes its
+ * entry in the shared parent array.
+ */
+public class ParallelBreadthFirstSearch extends ASearchingAlgorithm {
+    // frontier slices smaller than this are expanded by a single task
+    private static final int GRAIN = 2048;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * creates a parallel bfs that runs on the common ForkJoinPool.
+     */
+    public ParallelBreadthFirstSearch() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * creates a parallel bfs that runs on the given pool.
+     *
+     * @param pool the pool used to expand the levels
+     */
+    public ParallelBreadthFirstSearch(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * returns the algorithm name.
+     *
+     * @return name string
+     */
+    @Override
+    public String getName() {
+        return "Parallel Breadth First Search";
+    }
+
+    /**
+     * solves the given searchable problem using a parallel bfs over flat cell indices.
+     *
+     * @param domain the searchable problem
+     * @return a shortest solution from start to goal (or empty if no path)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        if (!(domain instanceof SearchableMaze)) {
+            return delegate(new BreadthFirstSearch(), domain);
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        int cellCount = maze.getCellCount();
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+
+        SearchContext context = SearchContext.acquire(cellCount);
+        try {
+            return search(maze, startIndex, goalIndex, context.parent);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * runs the level by level search.
+     *
+     * @param maze the maze to search
+     * @param startIndex flat index of the start cell
+     * @param goalIndex flat index of the goal cell
+     * @param parent receives the parent of every reached cell
+     * @return a shortest solution from start to goal (or empty if no path)
+     */
+    private Solution search(SearchableMaze maze, int startIndex, int goalIndex, int[] parent) {
+        int cellCount = maze.getCellCount();
+        AtomicLongArray visited = new AtomicLongArray((cellCount + 63) >>> 6);
+        int[] frontier = new int[16];
+        int[] next = new int[16];
+        int frontierSize = 1;
+        AtomicInteger nextSize = new AtomicInteger();
+
+        parent[startIndex] = -1;
+        visited.set(startIndex >>> 6, 1L << startIndex);
+        frontier[0] = startIndex;
+
+        while (frontierSize > 0) {
+            visitedNodes += frontierSize;
+            checkCancelled(frontierSize);
+            if (isClaimed(visited, goalIndex)) {
+                return maze.buildSolution(parent, goalIndex, null);
+            }
+
+            // every cell has at most 8 neighbors and no cell can be added twice
+            int capacity = (int) Math.min(cellCount, 8L * frontierSize);
+            if (next.length < capacity) {
+                next = new int[capacity];
+            }
+            nextSize.set(0);
+
+            LevelTask level = new LevelTask(maze, frontier, 0, frontierSize, visited, parent, next, nextSize);
+            if (frontierSize <= GRAIN) {
+                level.compute(); // not worth a trip to the pool
+            } else {
+                pool.invoke(level);
+            }
+
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize.get();
+            generatedNodes += frontierSize;
+            recordFrontier(frontierSize);
+            recordClosed(visitedNodes + frontierSize);
+        }
+
+        // no path found
+        return new Solution(null);
+    }
+
+    /**
+     * @return true if the cell is already marked in the visited bitmap
+     */
+    private static boolean isClaimed(AtomicLongArray visited, int index) {
+        return (visited.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * expands a slice of the current level, splitting it in halves until it is small enough.
+     * newly claimed cells are gathered locally and then copied into the next level in one block.
+     */
+    private static class LevelTask extends RecursiveAction {
+        private final SearchableMaze maze;
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+        private final AtomicLongArray visited;
+        private final int[] parent;
+        private final int[] next;
+        private final AtomicInteger nextSize;
+
+        LevelTask(SearchableMaze maze, int[] frontier, int from, int to, AtomicLongArray visited,
+                  int[] parent, int[] next, AtomicInteger nextSize) {
+            this.maze = maze;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.visited = visited;
+            this.parent = parent;
+            this.next = next;
+            this.nextSize = nextSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LevelTask(maze, frontier, from, middle, visited, parent, next, nextSize),
+                        new LevelTask(maze, frontier, middle, to, visited, parent, next, nextSize));
+                return;
+            }
+
+            int[] found = new int[8 * (to - from)];
+            int count = 0;
+            int[] successors = new int[8];
+
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                int neighbors = maze.getSuccessorIndices(current, successors);
+                for (int j = 0; j < neighbors; j++) {
+                    int neighbor = successors[j];
+                    if (claim(neighbor)) {
+                        parent[neighbor] = current;
+                        found[count++] = neighbor;
+                    }
+                }
+            }
+
+            int offset = nextSize.getAndAdd(count);
+            System.arraycopy(found, 0, next, offset, count);
+        }
+
+        /**
+         * marks a cell as visited.
+         *
+         * @return true if this call marked it, false if it was already visited
+         */
+        private boolean claim(int index) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            while (true) {
+                long old = visited.get(word);
+                if ((old & bit) != 0) return false;
+                if (visited.compareAndSet(word, old, old | bit)) return true;
+            }
+        }
+    }
+}
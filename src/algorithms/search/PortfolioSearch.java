@@ -0,0 +1,165 @@
+package algorithms.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * races several searching algorithms on the same problem and keeps the first path found.
+ * every member runs on its own thread with a fresh solver instance, all of them reading the same
+ * SearchableMaze, which searches never change. once a member returns a non empty path the others
+ * are cancelled through a shared CancellationToken and stop at their next check. the members are
+ * cancelled too when the solve of the portfolio is stopped, which is noticed within POLL_MILLIS.
+ * members that can't be stopped run to their end in the background.
+ * the statistics are those of the members that finished before the winner, the winner included.
+ * the name of the winner is kept, and a count of wins per member, to tune the portfolio.
+ * the solve server keeps the portfolio on large mazes too, so the wins on those are counted as well.
+ * problems that are not a SearchableMaze must be safe to search from several threads at once.
+ */
+public class PortfolioSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    // how long to wait for a member before looking at the token of this solve again
+    private static final long POLL_MILLIS = 10;
+    // runs the members when no pool is given, its idle threads are daemons and end after a minute
+    private static final ExecutorService SHARED_POOL = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "portfolio-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<Supplier<? extends ISearchingAlgorithm>> members;
+    private final ExecutorService pool;
+    private final Map<String, Integer> wins = new HashMap<>();
+    private String lastWinner;
+
+    /**
+     * creates a portfolio of BreadthFirstSearch, DepthFirstSearch and BestFirstSearch.
+     */
+    public PortfolioSearch() {
+        this(Arrays.<Supplier<? extends ISearchingAlgorithm>>asList(
+                BreadthFirstSearch::new, DepthFirstSearch::new, BestFirstSearch::new));
+    }
+
+    /**
+     * creates a portfolio that runs its members on a shared pool of daemon threads.
+     *
+     * @param members suppliers of the solvers to race, called once per solve
+     * @throws IllegalArgumentException if there are no members
+     */
+    public PortfolioSearch(List<Supplier<? extends ISearchingAlgorithm>> members) {
+        this(members, SHARED_POOL);
+    }
+
+    /**
+     * creates a portfolio that runs its members on the given pool.
+     * a pool with fewer threads than members runs some of them one after another.
+     *
+     * @param members suppliers of the solvers to race, called once per solve
+     * @param pool the pool that runs the members
+     * @throws IllegalArgumentException if there are no members
+     */
+    public PortfolioSearch(List<Supplier<? extends ISearchingAlgorithm>> members, ExecutorService pool) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("a portfolio needs at least one member");
+        }
+        this.members = new ArrayList<>(members);
+        this.pool = pool;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Portfolio Search";
+    }
+
+    /**
+     * @return name of the member that found the path of the last solve, or null if none did
+     */
+    public String getLastWinner() {
+        return lastWinner;
+    }
+
+    /**
+     * @return number of solves won by each member since this portfolio was created, by member name
+     */
+    public Map<String, Integer> getWinCounts() {
+        return Collections.unmodifiableMap(new HashMap<>(wins));
+    }
+
+    /**
+     * runs all members and returns the first non empty solution.
+     *
+     * @param domain the problem to solve
+     * @return the path of the first member to find one, or an empty solution if none did
+     * @throws IllegalStateException if every member failed with an exception
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        lastWinner = null;
+        if (isCancelled()) {
+            throw new SearchStoppedException(); // don't start members that would be cancelled right away
+        }
+        CancellationToken losers = new CancellationToken();
+        ExecutorCompletionService<Solution> completion = new ExecutorCompletionService<>(pool);
+        Map<Future<Solution>, ISearchingAlgorithm> running = new IdentityHashMap<>();
+        try {
+            for (Supplier<? extends ISearchingAlgorithm> member : members) {
+                ISearchingAlgorithm algorithm = member.get();
+                running.put(completion.submit(() -> algorithm.solve(domain, losers)), algorithm);
+            }
+
+            RuntimeException failure = null;
+            int failed = 0;
+            for (int pending = running.size(); pending > 0; pending--) {
+                Future<Solution> done = completion.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                while (done == null) {
+                    if (isCancelled()) {
+                        throw new SearchStoppedException(); // the members are cancelled below
+                    }
+                    done = completion.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                ISearchingAlgorithm algorithm = running.get(done);
+                Solution solution;
+                try {
+                    solution = done.get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    failure = new IllegalStateException(algorithm.getName() + " failed", e.getCause());
+                    continue;
+                }
+
+                addStats(solution, algorithm);
+                if (!solution.getSolutionPath().isEmpty()) {
+                    lastWinner = algorithm.getName();
+                    wins.merge(lastWinner, 1, Integer::sum);
+                    return solution;
+                }
+            }
+
+            if (failed == running.size()) {
+                throw failure;
+            }
+            return new Solution(null); // no member found a path
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchStoppedException();
+        } finally {
+            losers.cancel();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package algorithms.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * scratch state of a single search: parents, costs and visited marks.
+ * keeping it here instead of in the states lets one SearchableMaze serve many searches,
+ * even at the same time from different threads.
+ * every thread keeps one context and reuses its arrays for the next search,
+ * a nested search on the same thread gets a fresh one.
+ */
+final class SearchContext {
+    private static final ThreadLocal<SearchContext> POOL = new ThreadLocal<>();
+
+    int[] parent = new int[0];          // parent cell of every reached cell, by flat index
+    int[] cost = new int[0];            // cost to reach every cell, by flat index
+    long[] visited = new long[0];       // one bit per cell
+    final IntRingBuffer queue = new IntRingBuffer(1024);
+    final HashMap<AState, AState> cameFrom = new HashMap<>(); // parents for non-grid domains
+
+    private IndexedMinHeap heap;
+    private int cellCount;
+    private boolean inUse;
+
+    private SearchContext() {
+    }
+
+    /**
+     * returns an empty context for a search over the given number of cells.
+     * must be handed back with release() when the search ends.
+     *
+     * @param cellCount number of cells (0 for searches that only use cameFrom)
+     * @return a context with all cells unvisited and an empty queue, heap and cameFrom map
+     */
+    static SearchContext acquire(int cellCount) {
+        SearchContext context = POOL.get();
+        if (context == null || context.inUse) {
+            context = new SearchContext();
+            if (POOL.get() == null) POOL.set(context);
+        }
+        context.inUse = true;
+        context.reset(cellCount);
+        return context;
+    }
+
+    /**
+     * hands the context back to the pool of its thread.
+     */
+    void release() {
+        inUse = false;
+    }
+
+    /**
+     * @return an empty indexed heap over all cells
+     */
+    IndexedMinHeap heap() {
+        if (heap == null || heap.capacity() < cellCount) {
+            heap = new IndexedMinHeap(Math.max(cellCount, parent.length));
+        }
+        return heap;
+    }
+
+    /**
+     * @return true if the cell was marked as visited in this search
+     */
+    boolean isVisited(int index) {
+        return (visited[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * marks a cell as visited.
+     */
+    void markVisited(int index) {
+        visited[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * grows the arrays if needed and clears what the previous search left behind.
+     */
+    private void reset(int cellCount) {
+        this.cellCount = cellCount;
+        if (parent.length < cellCount) {
+            parent = new int[cellCount];
+            cost = new int[cellCount];
+            visited = new long[(cellCount + 63) >>> 6];
+        } else {
+            Arrays.fill(visited, 0, (cellCount + 63) >>> 6, 0L);
+        }
+        queue.clear();
+        cameFrom.clear();
+        if (heap != null) heap.clear();
+    }
+}
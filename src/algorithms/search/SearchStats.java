@@ -0,0 +1,82 @@
+package algorithms.search;
+
+import java.io.Serializable;
+
+/**
+ * statistics of a single solve, attached to the solution it produced.
+ * - nodes expanded: states taken off the frontier and processed
+ * - nodes generated: successors added to the frontier or marked as reached
+ * - peak frontier: largest size of the open list, queue or level
+ * - peak closed: largest number of states remembered as reached or done
+ * - wall time of the solve, in nanoseconds
+ * - bytes allocated by the solving thread, -1 if the jvm can't tell
+ */
+public class SearchStats implements Serializable {
+    private final long nodesExpanded;
+    private final long nodesGenerated;
+    private final long peakFrontier;
+    private final long peakClosed;
+    private final long wallTimeNanos;
+    private final long allocatedBytes;
+
+    /**
+     * creates the statistics of a solve.
+     */
+    SearchStats(long nodesExpanded, long nodesGenerated, long peakFrontier, long peakClosed,
+                long wallTimeNanos, long allocatedBytes) {
+        this.nodesExpanded = nodesExpanded;
+        this.nodesGenerated = nodesGenerated;
+        this.peakFrontier = peakFrontier;
+        this.peakClosed = peakClosed;
+        this.wallTimeNanos = wallTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return number of nodes expanded
+     */
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * @return number of nodes generated
+     */
+    public long getNodesGenerated() {
+        return nodesGenerated;
+    }
+
+    /**
+     * @return largest frontier size during the solve
+     */
+    public long getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    /**
+     * @return largest closed set size during the solve
+     */
+    public long getPeakClosed() {
+        return peakClosed;
+    }
+
+    /**
+     * @return wall time of the solve in nanoseconds
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * @return bytes allocated by the solving thread, or -1 if not supported
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("expanded=%d generated=%d peakFrontier=%d peakClosed=%d time=%.3fms allocated=%d",
+                nodesExpanded, nodesGenerated, peakFrontier, peakClosed, wallTimeNanos / 1e6, allocatedBytes);
+    }
+}
@@ -0,0 +1,13 @@
+package algorithms.search;
+
+/**
+ * thrown inside a search to leave its loops once the solve has to stop,
+ * because its token was cancelled, its deadline passed, its thread was interrupted
+ * or it needed more memory than its budget allows.
+ * caught by ASearchingAlgorithm.solve, never seen by the callers of solve.
+ */
+final class SearchStoppedException extends RuntimeException {
+    SearchStoppedException() {
+        super(null, null, false, false); // no stack trace, it is thrown for control flow only
+    }
+}
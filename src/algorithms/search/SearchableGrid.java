@@ -0,0 +1,78 @@
+package algorithms.search;
+
+import algorithms.mazeGenerators.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * searchable problem over a MazeGrid, with the moves of SearchableMaze.
+ * unlike SearchableMaze it keeps nothing per cell: states are created when they are asked for,
+ * so a maze file or a large Maze can be handed to a memory bounded solver as it is.
+ */
+final class SearchableGrid implements ISearchable {
+    private final MazeGrid grid;
+
+    /**
+     * @param grid the maze to search
+     */
+    SearchableGrid(MazeGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * @return the maze this problem searches
+     */
+    MazeGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * returns the start state, or null if the start is a wall.
+     */
+    @Override
+    public AState getStartState() {
+        return stateAt(grid.getStartPosition());
+    }
+
+    /**
+     * returns the goal state, or null if the goal is a wall.
+     */
+    @Override
+    public AState getGoalState() {
+        return stateAt(grid.getGoalPosition());
+    }
+
+    /**
+     * returns all valid neighbors of a given state, in the order of SearchableMaze.
+     */
+    @Override
+    public List<AState> getAllPossibleStates(AState state) {
+        Position position = ((MazeState) state).getPosition();
+        int row = position.getRowIndex();
+        int col = position.getColumnIndex();
+        List<AState> successors = new ArrayList<>();
+        for (int d = 0; d < 8; d++) {
+            int newRow = row + SearchableMaze.ROW_STEPS[d];
+            int newCol = col + SearchableMaze.COL_STEPS[d];
+            if (canMove(grid, row, col, newRow, newCol)) {
+                successors.add(new MazeState(new Position(newRow, newCol)));
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * checks a move between two neighboring cells with the rules of SearchableMaze:
+     * a diagonal needs both adjacent straight cells to be walkable.
+     */
+    static boolean canMove(MazeGrid grid, int row, int col, int newRow, int newCol) {
+        if (!grid.isWalkable(newRow, newCol)) return false;
+        return newRow == row || newCol == col || (grid.isWalkable(newRow, col) && grid.isWalkable(row, newCol));
+    }
+
+    private MazeState stateAt(Position position) {
+        if (!grid.isWalkable(position.getRowIndex(), position.getColumnIndex())) return null;
+        return new MazeState(position);
+    }
+}
@@ -4,40 +4,150 @@ import algorithms.mazeGenerators.Maze;
 import algorithms.mazeGenerators.Position;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * adapter that allows a maze to be used as a searchable domain.
  * wraps the Maze class and translates its positions into MazeState objects.
+ * the walls, the start, the goal and the allowed moves are read once, when the wrapper is built,
+ * so later changes to the maze are not seen by an existing wrapper.
+ * searches keep their own scratch state and never change the wrapper or its states,
+ * so one wrapper can be reused and shared by searches running on different threads.
+ * a straight and a diagonal move cost one each unless other integer costs are given, for example 10 and 14.
+ * the costs are followed by AStarSearch, BucketAStarSearch, WeightedAStarSearch and LandmarkAStarSearch,
+ * and DStarLitePlanner takes the same two costs for the maze it plans on. the other solvers look for the fewest moves.
  */
 public class SearchableMaze implements ISearchable {
-    private Maze maze;
-    private MazeState[][] states;
+    // row and column offsets of the 8 moves: up, down, left, right, then the diagonals
+    static final int[] ROW_STEPS = { -1, 1, 0, 0, -1, -1, 1, 1 };
+    static final int[] COL_STEPS = { 0, 0, -1, 1, -1, 1, -1, 1 };
+
+    private final int rows;
+    private final int cols;
+    private final int startIndex;
+    private final int goalIndex;
+    private final MazeState[] states;      // one state per walkable cell, by flat index
+    private final byte[] neighborMask;     // bit d is set if move d is allowed from the cell
+    private final int[] stepOffsets;       // flat index offset of every move
+    private final int straightCost;        // cost of an up/down/left/right move
+    private final int diagonalCost;        // cost of a diagonal move
+    private volatile MazeFingerprint fingerprint; // computed on first use
+    private volatile MazeComponents components;   // computed on first use
 
     /**
      * builds a searchable wrapper over a given maze.
-     * initializes MazeState objects only for path cells (value 0).
+     * initializes MazeState objects only for path cells (value 0)
+     * and precomputes the allowed moves of every cell.
      * @param maze the maze to wrap
      */
     public SearchableMaze(Maze maze) {
-        this.maze = maze;
-
-        Position start = maze.getStartPosition();
-        Position goal = maze.getGoalPosition();
+        this(maze, 1, 1);
+    }
 
-        int rows = maze.getRows();
-        int cols = maze.getColumns();
-        states = new MazeState[rows][cols];
+    /**
+     * builds a searchable wrapper over a given maze with weighted moves.
+     *
+     * @param maze the maze to wrap
+     * @param straightCost cost of an up/down/left/right move
+     * @param diagonalCost cost of a diagonal move
+     * @throws IllegalArgumentException if a cost is less than 1
+     */
+    public SearchableMaze(Maze maze, int straightCost, int diagonalCost) {
+        if (straightCost < 1 || diagonalCost < 1) {
+            throw new IllegalArgumentException("move costs must be at least 1");
+        }
+        this.straightCost = straightCost;
+        this.diagonalCost = diagonalCost;
+        rows = maze.getRows();
+        cols = maze.getColumns();
+        startIndex = indexOf(maze.getStartPosition());
+        goalIndex = indexOf(maze.getGoalPosition());
+        int[][] grid = maze.getGrid();
+        states = new MazeState[rows * cols];
 
         // create a MazeState only for walkable positions
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (maze.getGrid()[i][j] == 0) {
-                    states[i][j] = new MazeState(new Position(i, j));
+                if (grid[i][j] == 0) {
+                    states[i * cols + j] = new MazeState(new Position(i, j));
                 }
             }
         }
+
+        stepOffsets = new int[8];
+        for (int d = 0; d < 8; d++) {
+            stepOffsets[d] = ROW_STEPS[d] * cols + COL_STEPS[d];
+        }
+
+        neighborMask = new byte[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                neighborMask[i * cols + j] = computeMask(i, j);
+            }
+        }
+    }
+
+    /**
+     * builds a copy of a maze in which some walkable cells are turned into walls.
+     * the remaining cells keep the states of the source, so solutions of both mazes use the same positions.
+     *
+     * @param source the maze to copy
+     * @param removed bitset of the cells to turn into walls
+     */
+    SearchableMaze(SearchableMaze source, long[] removed) {
+        rows = source.rows;
+        cols = source.cols;
+        startIndex = source.startIndex;
+        goalIndex = source.goalIndex;
+        stepOffsets = source.stepOffsets;
+        straightCost = source.straightCost;
+        diagonalCost = source.diagonalCost;
+
+        states = new MazeState[rows * cols];
+        for (int index = 0; index < states.length; index++) {
+            if ((removed[index >>> 6] & (1L << index)) == 0) {
+                states[index] = source.states[index];
+            }
+        }
+
+        neighborMask = new byte[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                neighborMask[i * cols + j] = computeMask(i, j);
+            }
+        }
+    }
+
+    /**
+     * finds the allowed moves from a cell: up/down/left/right into walkable cells,
+     * and diagonals only if both adjacent straight cells are walkable too.
+     *
+     * @return one bit per allowed move, in the order of ROW_STEPS
+     */
+    private byte computeMask(int row, int col) {
+        if (!isWalkable(row, col)) return 0;
+
+        int mask = 0;
+
+        // check up/down/left/right
+        for (int d = 0; d < 4; d++) {
+            if (isWalkable(row + ROW_STEPS[d], col + COL_STEPS[d])) {
+                mask |= 1 << d;
+            }
+        }
+
+        // check diagonals if adjacent steps are valid
+        for (int d = 4; d < 8; d++) {
+            int newRow = row + ROW_STEPS[d];
+            int newCol = col + COL_STEPS[d];
+            if (isWalkable(newRow, newCol)
+                    && isWalkable(newRow, col)
+                    && isWalkable(row, newCol)) {
+                mask |= 1 << d;
+            }
+        }
+
+        return (byte) mask;
     }
 
     /**
@@ -45,8 +155,7 @@ public class SearchableMaze implements ISearchable {
      */
     @Override
     public AState getStartState() {
-        Position p = maze.getStartPosition();
-        return states[p.getRowIndex()][p.getColumnIndex()];
+        return states[startIndex];
     }
 
     /**
@@ -54,8 +163,52 @@ public class SearchableMaze implements ISearchable {
      */
     @Override
     public AState getGoalState() {
-        Position p = maze.getGoalPosition();
-        return states[p.getRowIndex()][p.getColumnIndex()];
+        return states[goalIndex];
+    }
+
+    /**
+     * returns the content fingerprint of this maze, used to share preprocessing
+     * between wrappers of mazes with the same walls.
+     *
+     * @return the fingerprint, computed once
+     */
+    MazeFingerprint getFingerprint() {
+        MazeFingerprint result = fingerprint;
+        if (result == null) {
+            result = new MazeFingerprint(this);
+            fingerprint = result;
+        }
+        return result;
+    }
+
+    /**
+     * tells whether the goal can be reached from the start at all.
+     * the first call labels the connected regions of the maze (or takes them from the cache),
+     * later calls are O(1).
+     *
+     * @return true if a path from start to goal exists
+     */
+    boolean isGoalReachable() {
+        MazeComponents result = components;
+        if (result == null) {
+            result = MazeComponents.of(this);
+            components = result;
+        }
+        return result.connected(startIndex, goalIndex);
+    }
+
+    /**
+     * @return flat index of the start cell
+     */
+    int getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * @return flat index of the goal cell
+     */
+    int getGoalIndex() {
+        return goalIndex;
     }
 
     /**
@@ -64,60 +217,193 @@ public class SearchableMaze implements ISearchable {
      */
     @Override
     public List<AState> getAllPossibleStates(AState state) {
-        MazeState mazeState = (MazeState) state;
-        Position pos = mazeState.getPosition();
-        int row = pos.getRowIndex();
-        int col = pos.getColumnIndex();
-
-        // skip walls
-        if (maze.getGrid()[row][col] != 0) {
-            return Collections.emptyList();
-        }
-
         List<AState> successors = new ArrayList<>();
+        forEachPossibleState(state, successors::add);
+        return successors;
+    }
 
-        int[][] cardinalDirs = { {-1,0}, {1,0}, {0,-1}, {0,1} };
-        int[][] diagonalDirs = { {-1,-1}, {-1,1}, {1,-1}, {1,1} };
+    /**
+     * passes all valid neighbors of a given state to a visitor,
+     * including diagonals if both adjacent cells are walkable.
+     * creates no objects, the visited states are the ones owned by this maze.
+     */
+    @Override
+    public void forEachPossibleState(AState state, IStateVisitor visitor) {
+        int index = indexOf(((MazeState) state).getPosition());
+        int mask = neighborMask[index] & 0xFF;
+        while (mask != 0) {
+            int d = Integer.numberOfTrailingZeros(mask);
+            visitor.visit(states[index + stepOffsets[d]]);
+            mask &= mask - 1;
+        }
+    }
 
-        // check up/down/left/right
-        for (int[] dir : cardinalDirs) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            if (isWalkable(newRow, newCol)) {
-                successors.add(states[newRow][newCol]);
-            }
+    /**
+     * writes the flat indices (row * columns + col) of all valid neighbors of a cell into out.
+     * follows the same rules and order as getAllPossibleStates, without creating any objects.
+     *
+     * @param index flat index of the current cell
+     * @param out array of at least 8 slots that receives the neighbor indices
+     * @return number of neighbors written
+     */
+    int getSuccessorIndices(int index, int[] out) {
+        int mask = neighborMask[index] & 0xFF;
+        int count = 0;
+        while (mask != 0) {
+            int d = Integer.numberOfTrailingZeros(mask);
+            out[count++] = index + stepOffsets[d];
+            mask &= mask - 1;
         }
+        return count;
+    }
 
-        // check diagonals if adjacent steps are valid
-        for (int[] diag : diagonalDirs) {
-            int newRow = row + diag[0];
-            int newCol = col + diag[1];
-            int adjRow = row + diag[0];
-            int adjCol = col;
-            int sideRow = row;
-            int sideCol = col + diag[1];
+    /**
+     * returns the allowed moves of a cell, one bit per move in the order of ROW_STEPS.
+     *
+     * @param index flat index of the cell
+     * @return the move bits, 0 for walls
+     */
+    int getNeighborMask(int index) {
+        return neighborMask[index] & 0xFF;
+    }
 
-            if (isWalkable(newRow, newCol)
-                    && isWalkable(adjRow, adjCol)
-                    && isWalkable(sideRow, sideCol)) {
-                successors.add(states[newRow][newCol]);
-            }
+    /**
+     * @param direction a move, in the order of ROW_STEPS
+     * @return how much the flat index changes with that move
+     */
+    int getStepOffset(int direction) {
+        return stepOffsets[direction];
+    }
+
+    /**
+     * @param direction a move, in the order of ROW_STEPS
+     * @return the cost of that move
+     */
+    int getMoveCost(int direction) {
+        return direction < 4 ? straightCost : diagonalCost;
+    }
+
+    /**
+     * @return the largest cost of a single move
+     */
+    int getMaxMoveCost() {
+        return Math.max(straightCost, diagonalCost);
+    }
+
+    /**
+     * lower bound on the cost of a path between two cells: the octile distance on an empty grid.
+     * never more than the real cost, and changes by at most the cost of a move between neighbors,
+     * so a* with it as the heuristic stays optimal and never has to reopen a cell.
+     *
+     * @param from flat index of one cell
+     * @param to flat index of the other cell
+     * @return the estimated cost
+     */
+    int estimateCost(int from, int to) {
+        return octile(Math.abs(from / cols - to / cols), Math.abs(from % cols - to % cols), straightCost, diagonalCost);
+    }
+
+    /**
+     * octile distance for a row and column difference under given move costs.
+     *
+     * @return a lower bound on the cost of covering the difference
+     */
+    static int octile(int dr, int dc, int straightCost, int diagonalCost) {
+        // a straight move can't be cheaper than a diagonal one (two diagonals cover two straight steps),
+        // and a diagonal that costs more than two straight moves is never worth taking
+        int straight = Math.min(straightCost, diagonalCost);
+        int diagonal = Math.min(diagonalCost, 2 * straight);
+        return straight * (dr + dc) + (diagonal - 2 * straight) * Math.min(dr, dc);
+    }
+
+    /**
+     * fewest moves between two cells on an empty grid, the octile distance with every move costing one.
+     *
+     * @param from flat index of one cell
+     * @param to flat index of the other cell
+     * @param cols number of columns of the grid
+     * @return the number of 8-connected moves
+     */
+    static int moveCount(int from, int to, int cols) {
+        return octile(Math.abs(from / cols - to / cols), Math.abs(from % cols - to % cols), 1, 1);
+    }
+
+    /**
+     * @return number of cells in the maze grid (rows * columns)
+     */
+    int getCellCount() {
+        return rows * cols;
+    }
+
+    /**
+     * @return number of rows in the maze grid
+     */
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns in the maze grid
+     */
+    int getColumns() {
+        return cols;
+    }
+
+    /**
+     * converts a position into its flat index.
+     */
+    int indexOf(Position p) {
+        return p.getRowIndex() * cols + p.getColumnIndex();
+    }
+
+    /**
+     * returns the state of the cell at a flat index, or null for walls.
+     */
+    MazeState getState(int index) {
+        return states[index];
+    }
+
+    /**
+     * builds the solution for a parent chain from the goal back to the start.
+     *
+     * @param parent parent index of every reached cell, -1 for the start
+     * @param goalIndex flat index of the goal cell
+     * @param cost cost to reach every reached cell, or null to use the number of steps
+     * @return the solution path
+     */
+    Solution buildSolution(int[] parent, int goalIndex, int[] cost) {
+        int length = 0;
+        for (int index = goalIndex; index != -1; index = parent[index]) {
+            length++;
         }
 
-        return successors;
+        // walk the chain again and fill the cells in start → goal order
+        int[] cells = new int[length];
+        int slot = length;
+        for (int index = goalIndex; index != -1; index = parent[index]) {
+            cells[--slot] = index;
+        }
+
+        List<AState> path = new ArrayList<>(length);
+        int[] pathCosts = cost == null ? null : new int[length];
+        for (int i = 0; i < length; i++) {
+            path.add(states[cells[i]]);
+            if (pathCosts != null) pathCosts[i] = cost[cells[i]];
+        }
+        return Solution.fromPath(path, pathCosts);
     }
 
     /**
      * returns true if a cell is in bounds and not a wall.
      */
-    private boolean isWalkable(int row, int col) {
-        return isInBounds(row, col) && maze.getGrid()[row][col] == 0 && states[row][col] != null;
+    boolean isWalkable(int row, int col) {
+        return isInBounds(row, col) && states[row * cols + col] != null;
     }
 
     /**
      * checks that a row and col are inside maze bounds.
      */
     private boolean isInBounds(int row, int col) {
-        return row >= 0 && row < maze.getRows() && col >= 0 && col < maze.getColumns();
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 }
@@ -3,12 +3,16 @@ package algorithms.search;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * represents a path from start to goal, built by tracing back from the goal state.
  */
 public class Solution implements Serializable {
     private ArrayList<AState> path;
+    private SearchStats stats; // statistics of the solve that found this solution
+    private boolean timedOut;  // the solve was stopped before it ended
 
     /**
      * builds a solution by walking backwards from the goal state to the start.
@@ -34,4 +38,73 @@ public class Solution implements Serializable {
     public ArrayList<AState> getSolutionPath() {
         return path;
     }
+
+    /**
+     * returns the statistics of the solve that produced this solution.
+     * @return the statistics, or null for a solution that was not returned by a searching algorithm
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /**
+     * attaches the statistics of the solve that produced this solution.
+     */
+    void setStats(SearchStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * tells whether the solve was stopped, by its deadline, its cancellation token, an interrupt
+     * or a memory budget, before it could finish. the path of a timed out solution is empty, which doesn't mean there is no path.
+     * @return true if the solve was stopped
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * marks the solution as the result of a solve that was stopped.
+     */
+    void setTimedOut(boolean timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * builds a solution from the states of a path, in start → goal order.
+     * the states are copied and the copies are linked to each other, so the states owned
+     * by the searched problem are never changed and can be shared between searches.
+     *
+     * @param states the path from start to goal, empty if there is no path
+     * @param costs cost to reach every state of the path, or null to use the step number
+     * @return the solution
+     */
+    static Solution fromPath(List<AState> states, int[] costs) {
+        Solution solution = new Solution(null);
+        AState previous = null;
+        for (int i = 0; i < states.size(); i++) {
+            AState step = states.get(i).copy();
+            step.setCameFrom(previous);
+            step.setCost(costs == null ? i : costs[i]);
+            solution.path.add(step);
+            previous = step;
+        }
+        return solution;
+    }
+
+    /**
+     * builds a solution by walking a parent map backwards from the goal state to the start.
+     *
+     * @param goalState the final state in the solution path
+     * @param cameFrom the state every reached state came from, null for the start
+     * @return the solution
+     */
+    static Solution fromParents(AState goalState, Map<AState, AState> cameFrom) {
+        List<AState> states = new ArrayList<>();
+        for (AState current = goalState; current != null; current = cameFrom.get(current)) {
+            states.add(current);
+        }
+        Collections.reverse(states); // start → goal order
+        return fromPath(states, null);
+    }
 }
@@ -0,0 +1,171 @@
+package algorithms.search;
+
+import java.util.Arrays;
+
+/**
+ * bounded suboptimal a* search: orders the open list by g + (1 + epsilon) * h instead of g + h.
+ * the inflated heuristic pulls the search straight towards the goal, so far fewer cells are expanded,
+ * and the cost of the returned path is at most 1 + epsilon times the cheapest one.
+ * a closed cell that is reached more cheaply is opened again, which keeps the open list holding a
+ * cell of a cheapest path with its exact cost. the smallest g + h on the open list is then a lower
+ * bound on the cheapest cost, and it is reported next to the cost that was achieved.
+ * with epsilon 0 this is a plain a* search.
+ */
+public class WeightedAStarSearch extends ASearchingAlgorithm implements ILargeMazeSearch {
+    // allowed excess over the cheapest cost when none is given
+    private static final double DEFAULT_EPSILON = 0.2;
+
+    private final double epsilon;
+    private double lastCost = -1;
+    private double lastLowerBound = -1;
+
+    /**
+     * creates a weighted a* search whose paths cost at most 20% more than the cheapest ones.
+     */
+    public WeightedAStarSearch() {
+        this(DEFAULT_EPSILON);
+    }
+
+    /**
+     * creates a weighted a* search.
+     *
+     * @param epsilon how much more than the cheapest cost a returned path may cost, as a fraction
+     * @throws IllegalArgumentException if epsilon is negative or not a number
+     */
+    public WeightedAStarSearch(double epsilon) {
+        if (!(epsilon >= 0) || Double.isInfinite(epsilon)) {
+            throw new IllegalArgumentException("epsilon must be a non negative number, got " + epsilon);
+        }
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * returns the name of the algorithm.
+     *
+     * @return name as string
+     */
+    @Override
+    public String getName() {
+        return "Weighted A Star Search";
+    }
+
+    /**
+     * @return the allowed excess over the cheapest cost, the returned cost is at most 1 + epsilon times it
+     */
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    /**
+     * @return the cost of the path found by the last solve, or -1 if it found none
+     */
+    public double getLastCost() {
+        return lastCost;
+    }
+
+    /**
+     * @return a cost that no path of the last solved maze can beat, or -1 if no path was found
+     */
+    public double getLastLowerBound() {
+        return lastLowerBound;
+    }
+
+    /**
+     * solves a searchable problem using weighted a* search.
+     *
+     * @param domain the problem to solve
+     * @return a solution that costs at most 1 + epsilon times the cheapest one (or empty if no path)
+     */
+    @Override
+    protected Solution search(ISearchable domain) {
+        lastCost = -1;
+        lastLowerBound = -1;
+        if (!(domain instanceof SearchableMaze)) {
+            Solution solution = delegate(new BreadthFirstSearch(), domain);
+            if (!solution.getSolutionPath().isEmpty()) {
+                lastCost = solution.getSolutionPath().size() - 1; // bfs paths are shortest
+                lastLowerBound = lastCost;
+            }
+            return solution;
+        }
+
+        SearchableMaze maze = (SearchableMaze) domain;
+        if (maze.getStartState() == null || maze.getGoalState() == null) {
+            return new Solution(null); // start or goal is a wall
+        }
+
+        int startIndex = maze.getStartIndex();
+        int goalIndex = maze.getGoalIndex();
+        double weight = 1 + epsilon;
+
+        SearchContext context = SearchContext.acquire(maze.getCellCount());
+        try {
+            int[] g = context.cost;
+            int[] parent = context.parent;
+            IndexedMinHeap open = context.heap();
+
+            Arrays.fill(g, 0, maze.getCellCount(), Integer.MAX_VALUE);
+            g[startIndex] = 0;
+            parent[startIndex] = -1;
+            open.insert(startIndex, key(0, maze.estimateCost(startIndex, goalIndex), weight));
+
+            while (!open.isEmpty()) {
+                int current = open.poll();
+                visitedNodes++;
+                checkCancelled();
+
+                if (current == goalIndex) {
+                    lastCost = g[goalIndex];
+                    lastLowerBound = lowerBound(maze, open, g, g[goalIndex]);
+                    return maze.buildSolution(parent, goalIndex, g);
+                }
+
+                int mask = maze.getNeighborMask(current);
+                while (mask != 0) {
+                    int d = Integer.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    int neighbor = current + maze.getStepOffset(d);
+                    int tentative = g[current] + maze.getMoveCost(d);
+                    if (tentative >= g[neighbor]) continue;
+
+                    if (g[neighbor] == Integer.MAX_VALUE) generatedNodes++;
+                    g[neighbor] = tentative;
+                    parent[neighbor] = current;
+                    long key = key(tentative, maze.estimateCost(neighbor, goalIndex), weight);
+                    if (open.contains(neighbor)) {
+                        open.decreaseKey(neighbor, key);
+                    } else {
+                        open.insert(neighbor, key); // new, or expanded before and now reached more cheaply
+                    }
+                }
+                recordFrontier(open.size());
+                recordClosed(visitedNodes);
+            }
+
+            // no solution found
+            return new Solution(null);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * the smallest g + h of the goal and the open cells. one of them is on a cheapest path with its
+     * exact cost, and h never overestimates, so no path can cost less.
+     */
+    private static double lowerBound(SearchableMaze maze, IndexedMinHeap open, int[] g, int goalCost) {
+        long bound = goalCost;
+        for (int slot = 0; slot < open.size(); slot++) {
+            int cell = open.idAt(slot);
+            bound = Math.min(bound, (long) g[cell] + maze.estimateCost(cell, maze.getGoalIndex()));
+        }
+        return bound;
+    }
+
+    /**
+     * g + weight * h as a heap key. the bits of a non negative double sort like the double itself.
+     */
+    private static long key(int g, int h, double weight) {
+        return Double.doubleToLongBits(g + weight * h);
+    }
+}
@@ -15,12 +15,20 @@ public class RunSearchOnMaze {
         solveProblem(searchableMaze, new BreadthFirstSearch());
         solveProblem(searchableMaze, new DepthFirstSearch());
         solveProblem(searchableMaze, new BestFirstSearch());
+        solveProblem(searchableMaze, new FlatBreadthFirstSearch());
+        solveProblem(searchableMaze, new AStarSearch());
+        solveProblem(searchableMaze, new BidirectionalSearch());
+        solveProblem(searchableMaze, new JumpPointSearch());
+        solveProblem(searchableMaze, new HierarchicalSearch());
+        solveProblem(searchableMaze, new JunctionGraphSearch());
+        solveProblem(searchableMaze, new DeadEndFillingSearch());
     }
 
     private static void solveProblem(ISearchable domain, ISearchingAlgorithm searcher) {
         //Solve a searching problem with a searcher
         Solution solution = searcher.solve(domain);
         System.out.println(String.format("'%s' algorithm - nodes evaluated: %s", searcher.getName(), searcher.getNumberOfNodesEvaluated()));
+        System.out.println(solution.getStats());
         //Printing Solution Path
         System.out.println("Solution path:");
         ArrayList<AState> solutionPath = solution.getSolutionPath();